@@ -0,0 +1,51 @@
+package nl.tudelft.jpacman;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps of any size for the benchmarks: a grid of corridors around square
+ * pillars, with a pellet on every corridor square, the player in the top
+ * left corner and a ghost in each of the other corners.
+ */
+public final class BenchmarkMaps {
+
+    private BenchmarkMaps() {
+    }
+
+    /**
+     * Creates a map.
+     *
+     * @param width
+     *            The width of the map, at least 5.
+     * @param height
+     *            The height of the map, at least 5.
+     * @return The rows of the map, as read by the map parser.
+     */
+    public static List<String> grid(int width, int height) {
+        assert width >= 5 && height >= 5;
+        List<String> rows = new ArrayList<>(height);
+        for (int y = 0; y < height; y++) {
+            StringBuilder row = new StringBuilder(width);
+            for (int x = 0; x < width; x++) {
+                row.append(squareAt(x, y, width, height));
+            }
+            rows.add(row.toString());
+        }
+        return rows;
+    }
+
+    private static char squareAt(int x, int y, int width, int height) {
+        int right = width - 2;
+        int bottom = height - 2;
+        if (x == 0 || y == 0 || x == width - 1 || y == height - 1
+            || x % 2 == 0 && y % 2 == 0 && x < right && y < bottom) {
+            return '#';
+        } else if (x == 1 && y == 1) {
+            return 'P';
+        } else if ((x == 1 || x == right) && (y == 1 || y == bottom)) {
+            return 'G';
+        }
+        return '.';
+    }
+}
@@ -0,0 +1,108 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.concurrent.TimeUnit;
+
+import nl.tudelft.jpacman.npc.ghost.Ghost;
+import nl.tudelft.jpacman.npc.ghost.GhostFactory;
+import nl.tudelft.jpacman.sprite.HeadlessSprites;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the dispatch of collisions by the {@link CollisionInteractionMap}
+ * (through the {@link DefaultPlayerInteractionMap}) with the hard-coded
+ * dispatch of the {@link PlayerCollisions}. The units are not on a board, so
+ * the handlers don't change anything but the state of the player.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    private CollisionMap interactionMap;
+
+    private CollisionMap playerCollisions;
+
+    private Player player;
+
+    private Ghost ghost;
+
+    private Pellet pellet;
+
+    /**
+     * Creates the units and the collision maps.
+     */
+    @Setup
+    public void setUp() {
+        PacManSprites sprites = new HeadlessSprites();
+        GhostFactory ghosts = new GhostFactory(sprites);
+        interactionMap = new DefaultPlayerInteractionMap();
+        playerCollisions = new PlayerCollisions();
+        player = new PlayerFactory(sprites).createPacMan();
+        ghost = ghosts.createBlinky();
+        pellet = new LevelFactory(sprites, ghosts, new TickScheduler()).createPellet();
+    }
+
+    /**
+     * Dispatches a player moving onto a pellet through the interaction map.
+     */
+    @Benchmark
+    public void interactionMapPellet() {
+        interactionMap.collide(player, pellet);
+    }
+
+    /**
+     * Dispatches a ghost moving onto a player through the interaction map.
+     */
+    @Benchmark
+    public void interactionMapGhost() {
+        interactionMap.collide(ghost, player);
+    }
+
+    /**
+     * Dispatches a ghost moving onto a pellet, which has no handler, through
+     * the interaction map.
+     */
+    @Benchmark
+    public void interactionMapNoHandler() {
+        interactionMap.collide(ghost, pellet);
+    }
+
+    /**
+     * Dispatches a player moving onto a pellet through the player collisions.
+     */
+    @Benchmark
+    public void playerCollisionsPellet() {
+        playerCollisions.collide(player, pellet);
+    }
+
+    /**
+     * Dispatches a ghost moving onto a player through the player collisions.
+     */
+    @Benchmark
+    public void playerCollisionsGhost() {
+        playerCollisions.collide(ghost, player);
+    }
+
+    /**
+     * Dispatches a ghost moving onto a pellet, which has no handler, through
+     * the player collisions.
+     */
+    @Benchmark
+    public void playerCollisionsNoHandler() {
+        playerCollisions.collide(ghost, pellet);
+    }
+}
@@ -0,0 +1,76 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.concurrent.TimeUnit;
+
+import nl.tudelft.jpacman.BenchmarkMaps;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.simulation.Simulator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures moving the player back and forth on a level in progress, and
+ * asking the level for the pellets that remain. The ghosts don't move, as
+ * the level is simulated and never ticked.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelBenchmark {
+
+    /**
+     * The width and height of the board.
+     */
+    @Param({"31", "127"})
+    private int size;
+
+    private Level level;
+
+    private Player player;
+
+    private boolean east;
+
+    /**
+     * Creates the level and eats the pellets next to the player, so the
+     * moves don't end the game.
+     */
+    @Setup
+    public void setUp() {
+        Simulator simulator = new Simulator(BenchmarkMaps.grid(size, size));
+        level = simulator.getLevel();
+        player = simulator.getPlayer();
+        level.move(player, Direction.EAST);
+        level.move(player, Direction.WEST);
+    }
+
+    /**
+     * Moves the player to the square next to it, and back on the next
+     * invocation.
+     */
+    @Benchmark
+    public void move() {
+        level.move(player, east ? Direction.EAST : Direction.WEST);
+        east = !east;
+    }
+
+    /**
+     * @return The number of pellets remaining on the board.
+     */
+    @Benchmark
+    public int remainingPellets() {
+        return level.remainingPellets();
+    }
+}
@@ -0,0 +1,98 @@
+package nl.tudelft.jpacman.level;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.npc.ghost.GhostFactory;
+import nl.tudelft.jpacman.sprite.HeadlessSprites;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing large generated mazes into levels, up to a million
+ * squares, loading them from their binary format, and creating levels from a
+ * parsed template of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class MapParserBenchmark {
+
+    /**
+     * The width and height of the map.
+     */
+    @Param({"127", "511", "1001"})
+    private int size;
+
+    private char[][] map;
+
+    private MapParser parser;
+
+    private LevelTemplate template;
+
+    private ByteBuffer binaryMap;
+
+    private BinaryMapParser binaryParser;
+
+    /**
+     * Generates the map and creates the parser.
+     */
+    @Setup
+    public void setUp() {
+        map = new MapGenerator(size).withSize(size, size).withTunnels(4).generate();
+        PacManSprites sprites = new HeadlessSprites();
+        LevelFactory levels = new LevelFactory(sprites, new GhostFactory(sprites),
+            new TickScheduler());
+        parser = new MapParser(levels, new BoardFactory(sprites));
+        template = parser.parseTemplate(map);
+        binaryMap = BinaryMapParser.convert(map);
+        binaryParser = new BinaryMapParser(levels, new BoardFactory(sprites));
+    }
+
+    /**
+     * @return The level parsed from the map.
+     */
+    @Benchmark
+    public Level parseMap() {
+        return parser.parseMap(map);
+    }
+
+    /**
+     * @return The level loaded from the binary map.
+     */
+    @Benchmark
+    public Level parseBinaryMap() {
+        return binaryParser.parseMap(binaryMap);
+    }
+
+    /**
+     * @return The template parsed from the map.
+     */
+    @Benchmark
+    public LevelTemplate parseTemplate() {
+        return parser.parseTemplate(map);
+    }
+
+    /**
+     * @return A level created from the parsed template of the map.
+     */
+    @Benchmark
+    public Level instantiateTemplate() {
+        return template.instantiate();
+    }
+}
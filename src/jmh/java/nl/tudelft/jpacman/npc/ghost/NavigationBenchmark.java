@@ -0,0 +1,97 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import nl.tudelft.jpacman.BenchmarkMaps;
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.Level;
+import nl.tudelft.jpacman.level.Player;
+import nl.tudelft.jpacman.simulation.Simulator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the searches of the ghosts: the shortest path across the board
+ * with every {@link PathFinder}, and the search for the nearest player.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class NavigationBenchmark {
+
+    /**
+     * The width and height of the board.
+     */
+    @Param({"31", "127"})
+    private int size;
+
+    /**
+     * The path finder to measure.
+     */
+    @Param({"BREADTH_FIRST", "A_STAR", "JUMP_POINT"})
+    private String finder;
+
+    private PathFinder pathFinder;
+
+    private Square from;
+
+    private Square to;
+
+    private Unit traveller;
+
+    /**
+     * Creates the board, with the player in the top left corner.
+     */
+    @Setup
+    public void setUp() {
+        Level level = new Simulator(BenchmarkMaps.grid(size, size)).getLevel();
+        Board board = level.getBoard();
+        from = board.squareAt(size - 2, size - 2);
+        to = board.squareAt(1, 1);
+        traveller = Navigation.findUnit(Ghost.class, from);
+        switch (finder) {
+            case "A_STAR":
+                pathFinder = PathFinder.A_STAR;
+                break;
+            case "JUMP_POINT":
+                pathFinder = PathFinder.JUMP_POINT;
+                break;
+            default:
+                pathFinder = PathFinder.BREADTH_FIRST;
+                break;
+        }
+    }
+
+    /**
+     * @return The shortest path from the bottom right to the top left corner.
+     */
+    @Benchmark
+    public List<Direction> shortestPath() {
+        return pathFinder.shortestPath(from, to, traveller);
+    }
+
+    /**
+     * @return The player nearest to the bottom right corner.
+     */
+    @Benchmark
+    public Unit findNearest() {
+        return Navigation.findNearest(Player.class, from);
+    }
+}
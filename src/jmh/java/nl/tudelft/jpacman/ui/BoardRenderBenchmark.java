@@ -0,0 +1,111 @@
+package nl.tudelft.jpacman.ui;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.game.Game;
+import nl.tudelft.jpacman.game.GameFactory;
+import nl.tudelft.jpacman.level.Level;
+import nl.tudelft.jpacman.level.LevelFactory;
+import nl.tudelft.jpacman.level.MapParser;
+import nl.tudelft.jpacman.level.Player;
+import nl.tudelft.jpacman.level.PlayerFactory;
+import nl.tudelft.jpacman.level.TickScheduler;
+import nl.tudelft.jpacman.npc.ghost.GhostFactory;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering the default board with the classic sprites into an
+ * offscreen image, as the {@link BoardPanel} does: a full frame, drawn by a
+ * fresh renderer, and a frame in which only the player moved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BoardRenderBenchmark {
+
+    private Game game;
+
+    private Player player;
+
+    private Dimension size;
+
+    private BufferedImage target;
+
+    private Graphics graphics;
+
+    private BoardRenderer renderer;
+
+    private boolean east;
+
+    /**
+     * Creates the game, of which the ghosts never move, and renders its first
+     * frame.
+     *
+     * @throws IOException
+     *             when the board could not be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        PacManSprites sprites = new PacManSprites();
+        LevelFactory levels = new LevelFactory(sprites, new GhostFactory(sprites),
+            new TickScheduler());
+        Level level = new MapParser(levels, new BoardFactory(sprites)).parseMap("/board.txt");
+        game = new GameFactory(new PlayerFactory(sprites)).createSinglePlayerGame(level);
+        game.start();
+        player = game.getPlayers().get(0);
+
+        size = BoardRenderer.preferredSize(level.getBoard());
+        target = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_RGB);
+        graphics = target.getGraphics();
+        renderer = new BoardRenderer(game);
+        renderer.render(graphics, size);
+    }
+
+    /**
+     * Releases the graphics context.
+     */
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    /**
+     * Renders the whole board with a new renderer.
+     */
+    @Benchmark
+    public void fullFrame() {
+        new BoardRenderer(game).render(graphics, size);
+    }
+
+    /**
+     * Moves the player and renders the squares that changed.
+     */
+    @Benchmark
+    public void changedSquares() {
+        game.move(player, east ? Direction.EAST : Direction.WEST);
+        east = !east;
+        renderer.collectChanges();
+        renderer.render(graphics, size);
+    }
+}
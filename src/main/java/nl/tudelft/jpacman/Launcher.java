@@ -10,6 +10,7 @@ import nl.tudelft.jpacman.game.Game;
 import nl.tudelft.jpacman.game.GameFactory;
 import nl.tudelft.jpacman.level.Level;
 import nl.tudelft.jpacman.level.LevelFactory;
+import nl.tudelft.jpacman.level.LevelTemplate;
 import nl.tudelft.jpacman.level.MapParser;
 import nl.tudelft.jpacman.level.Player;
 import nl.tudelft.jpacman.level.PlayerFactory;
@@ -20,6 +21,7 @@ import nl.tudelft.jpacman.ui.PacManUI;
 import nl.tudelft.jpacman.ui.PacManUiBuilder;
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.nullness.qual.RequiresNonNull;
 
 /**
@@ -38,6 +40,16 @@ public class Launcher {
     @MonotonicNonNull private PacManUI pacManUI;
     @MonotonicNonNull private Game game;
 
+    /**
+     * <code>true</code> iff levels are created from a template of the map.
+     */
+    private boolean templateLevels;
+
+    /**
+     * The parsed level map, once a level has been made from a template.
+     */
+    private @Nullable LevelTemplate levelTemplate;
+
     /**
      * @return The game object this launcher will start when {@link #launch()}
      *         is called.
@@ -65,6 +77,26 @@ public class Launcher {
      */
     public Launcher withMapFile(String fileName) {
         levelMap = fileName;
+        levelTemplate = null;
+        return this;
+    }
+
+    /**
+     * Makes {@link #makeLevel()} parse the map only once, into a
+     * {@link LevelTemplate}, and create every level from that template.
+     *
+     * <p>
+     * A template only knows the characters of
+     * {@link MapParser#parseMap(char[][])} and creates plain walls and ground,
+     * so it bypasses a {@link MapParser#addSquare} or square factories of the
+     * {@link BoardFactory} that were overridden. Only use it with the default
+     * ones.
+     * </p>
+     *
+     * @return This launcher.
+     */
+    public Launcher withLevelTemplate() {
+        templateLevels = true;
         return this;
     }
 
@@ -84,12 +116,22 @@ public class Launcher {
     /**
      * Creates a new level. By default this method will use the map parser to
      * parse the default board stored in the <code>board.txt</code> resource.
+     * After {@link #withLevelTemplate()}, the map is parsed once and later
+     * levels are created from its template.
      *
      * @return A new level.
      */
     public Level makeLevel() {
         try {
-            return getMapParser().parseMap(getLevelMap());
+            if (!templateLevels) {
+                return getMapParser().parseMap(getLevelMap());
+            }
+            LevelTemplate template = levelTemplate;
+            if (template == null) {
+                template = getMapParser().parseTemplate(getLevelMap());
+                levelTemplate = template;
+            }
+            return template.instantiate();
         } catch (IOException e) {
             throw new PacmanConfigurationException(
                     "Unable to create level, name = " + getLevelMap(), e);
@@ -181,8 +223,10 @@ public class Launcher {
      */
     @EnsuresNonNull("game")
     public void launch() {
+        getSpriteStore().preload();
         makeGame();
-        PacManUiBuilder builder = new PacManUiBuilder().withDefaultButtons();
+        PacManUiBuilder builder = new PacManUiBuilder().withDefaultButtons()
+            .withAnimationClock(getSpriteStore().getAnimationClock());
         addSinglePlayerKeys(builder);
         pacManUI = builder.build(getGame());
         pacManUI.start();
@@ -1,6 +1,11 @@
 package nl.tudelft.jpacman.board;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 import org.checkerframework.checker.initialization.qual.UnderInitialization;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A top-down view of a matrix of {@link Square}s.
@@ -14,6 +19,18 @@ public class Board {
      */
     private final Square[][] board;
 
+    /**
+     * The precomputed shortest paths between the squares of this board, if
+     * any.
+     */
+    private @Nullable NextHopTable nextHops;
+
+    /**
+     * The squares of which the occupants changed since they were last taken,
+     * as a bitmap over the indices <code>x * height + y</code>.
+     */
+    private final AtomicLongArray changed;
+
     /**
      * Creates a new board.
      *
@@ -24,6 +41,8 @@ public class Board {
     Board(Square[][] grid) {
         assert grid != null;
         this.board = grid;
+        this.changed = new AtomicLongArray((grid.length * grid[0].length + Long.SIZE - 1)
+            / Long.SIZE);
         assert invariant() : "Initial grid cannot contain null squares";
     }
 
@@ -95,4 +114,66 @@ public class Board {
     public boolean withinBorders(int x, int y) {
         return x >= 0 && x < getWidth() && y >= 0 && y < getHeight();
     }
+
+    /**
+     * Returns the precomputed shortest paths between the squares of this
+     * board, if the {@link BoardFactory} was asked to precompute them.
+     *
+     * @return The table of shortest paths, or <code>null</code> if the paths
+     *         have not been precomputed.
+     */
+    public @Nullable NextHopTable getNextHops() {
+        return nextHops;
+    }
+
+    /**
+     * Sets the precomputed shortest paths between the squares of this board.
+     *
+     * @param table
+     *            The table of shortest paths on this board.
+     */
+    void setNextHops(NextHopTable table) {
+        this.nextHops = table;
+    }
+
+    /**
+     * Records that the occupants of a square on this board changed, or look
+     * different.
+     *
+     * @param square
+     *            The square that changed.
+     */
+    void markChanged(Square square) {
+        int index = square.getX() * getHeight() + square.getY();
+        long bit = 1L << index;
+        int word = index / Long.SIZE;
+        long current = changed.get(word);
+        while ((current & bit) == 0 && !changed.compareAndSet(word, current, current | bit)) {
+            current = changed.get(word);
+        }
+    }
+
+    /**
+     * Returns the squares of which the occupants moved or changed appearance
+     * since the previous call, and forgets about them. Can be called from any
+     * thread.
+     *
+     * @return The squares that changed.
+     */
+    public List<Square> takeChangedSquares() {
+        List<Square> result = new ArrayList<>();
+        int height = getHeight();
+        for (int word = 0; word < changed.length(); word++) {
+            if (changed.get(word) == 0L) {
+                continue;
+            }
+            long bits = changed.getAndSet(word, 0L);
+            while (bits != 0L) {
+                int index = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                result.add(squareAt(index / height, index % height));
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
 }
@@ -1,5 +1,7 @@
 package nl.tudelft.jpacman.board;
 
+import java.util.BitSet;
+
 import nl.tudelft.jpacman.sprite.PacManSprites;
 import nl.tudelft.jpacman.sprite.Sprite;
 
@@ -16,6 +18,11 @@ public class BoardFactory {
      */
     private final PacManSprites sprites;
 
+    /**
+     * <code>true</code> iff the boards created get a {@link NextHopTable}.
+     */
+    private final boolean precomputePaths;
+
     /**
      * Creates a new BoardFactory that will create a board with the provided
      * background sprites.
@@ -24,7 +31,25 @@ public class BoardFactory {
      *            The sprite store providing the sprites for the background.
      */
     public BoardFactory(PacManSprites spriteStore) {
+        this(spriteStore, false);
+    }
+
+    /**
+     * Creates a new BoardFactory that will create a board with the provided
+     * background sprites, optionally precomputing the shortest paths between
+     * all squares of every board it creates. This makes creating a board
+     * considerably more expensive, but makes finding a path on it a matter of
+     * following the table.
+     *
+     * @param spriteStore
+     *            The sprite store providing the sprites for the background.
+     * @param precomputePaths
+     *            <code>true</code> iff the boards should get a
+     *            {@link NextHopTable}.
+     */
+    public BoardFactory(PacManSprites spriteStore, boolean precomputePaths) {
         this.sprites = spriteStore;
+        this.precomputePaths = precomputePaths;
     }
 
     /**
@@ -39,22 +64,172 @@ public class BoardFactory {
         assert grid != null;
 
         Board board = new Board(grid);
+        link(board, grid);
+        precomputeAccess(grid);
+        if (precomputePaths) {
+            NextHopTable table = NextHopTable.build(board);
+            if (table != null) {
+                board.setNextHops(table);
+            }
+        }
+
+        return board;
+    }
+
+    /**
+     * Creates a template of boards of walls and ground, computing the access
+     * masks of the squares and, if this factory precomputes paths, the
+     * shortest paths between them once for all boards created from it. The
+     * masks are computed from the walls alone; squares are only created if
+     * the shortest paths are precomputed.
+     *
+     * @param width
+     *            The width of the boards.
+     * @param height
+     *            The height of the boards.
+     * @param walls
+     *            The walls, indexed by <code>x * height + y</code>, which are
+     *            no longer modified.
+     * @return A new template.
+     */
+    public BoardTemplate createTemplate(int width, int height, BitSet walls) {
+        int[] masks = new int[width * height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int mask = 0;
+                for (Direction dir : Direction.values()) {
+                    int dirX = wrap(x + dir.getDeltaX(), width);
+                    int dirY = wrap(y + dir.getDeltaY(), height);
+                    if (!walls.get(dirX * height + dirY)) {
+                        mask |= 1 << dir.ordinal();
+                    }
+                }
+                masks[x * height + y] = mask;
+            }
+        }
+        NextHopTable nextHops = null;
+        if (precomputePaths && width * height <= NextHopTable.MAX_SQUARES) {
+            nextHops = NextHopTable.build(
+                createBoard(new BoardTemplate(width, height, walls, masks, null)));
+        }
+        return new BoardTemplate(width, height, walls, masks, nextHops);
+    }
 
+    /**
+     * Creates a new board with new squares from a template. The board shares
+     * the access masks and shortest paths of the template rather than
+     * computing them again.
+     *
+     * <p>
+     * The squares themselves, and the links between them, are not shared:
+     * a square holds its occupants and knows its board and position, so
+     * every board needs squares of its own. Creating a board from a template
+     * therefore still takes time and memory linear in its number of squares;
+     * it only saves parsing the map and computing the masks and paths.
+     * </p>
+     *
+     * @param template
+     *            The template of the board.
+     * @return A new board of new, connected squares.
+     */
+    public Board createBoard(BoardTemplate template) {
+        int width = template.getWidth();
+        int height = template.getHeight();
+        Sprite wall = sprites.getWallSprite();
+        Sprite ground = sprites.getGroundSprite();
+        Square[][] grid = new Square[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid[x][y] = template.isWall(x, y) ? new Wall(wall) : new Ground(ground);
+            }
+        }
+        Board board = new Board(grid);
+        link(board, grid);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int mask = template.getAccessMask(x * height + y);
+                if (mask != BoardTemplate.NO_FIXED_ACCESS) {
+                    grid[x][y].setAccessMask(mask);
+                }
+            }
+        }
+        NextHopTable table = template.getNextHops();
+        if (table != null) {
+            board.setNextHops(table);
+        }
+        return board;
+    }
+
+    /**
+     * Places the squares on the board and links them to their neighbours,
+     * wrapping around at the borders.
+     *
+     * @param board
+     *            The board of the squares.
+     * @param grid
+     *            The square grid of cells, in which grid[x][y] corresponds to
+     *            the square at position x,y.
+     */
+    private static void link(Board board, Square[][] grid) {
         int width = board.getWidth();
         int height = board.getHeight();
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
                 Square square = grid[x][y];
+                square.place(board, x, y);
                 for (Direction dir : Direction.values()) {
-                    int dirX = (width + x + dir.getDeltaX()) % width;
-                    int dirY = (height + y + dir.getDeltaY()) % height;
+                    int dirX = wrap(x + dir.getDeltaX(), width);
+                    int dirY = wrap(y + dir.getDeltaY(), height);
                     Square neighbour = grid[dirX][dirY];
                     square.link(neighbour, dir);
                 }
             }
         }
+    }
 
-        return board;
+    /**
+     * Wraps a coordinate at most one step outside of the board around.
+     *
+     * @param coordinate
+     *            The coordinate, between -1 and the size of the board.
+     * @param size
+     *            The width or height of the board.
+     * @return The coordinate on the board.
+     */
+    private static int wrap(int coordinate, int size) {
+        if (coordinate < 0) {
+            return coordinate + size;
+        }
+        if (coordinate >= size) {
+            return coordinate - size;
+        }
+        return coordinate;
+    }
+
+    /**
+     * Precomputes the access masks of all squares that are surrounded by
+     * walls and ground only, since their accessibility never changes.
+     *
+     * @param grid
+     *            The linked grid of squares.
+     */
+    private static void precomputeAccess(Square[][] grid) {
+        for (Square[] column : grid) {
+            for (Square square : column) {
+                int mask = 0;
+                boolean terrainOnly = true;
+                for (Direction dir : Direction.values()) {
+                    Square neighbour = square.getSquareAt(dir);
+                    terrainOnly &= neighbour instanceof Wall || neighbour instanceof Ground;
+                    if (neighbour instanceof Ground) {
+                        mask |= 1 << dir.ordinal();
+                    }
+                }
+                if (terrainOnly) {
+                    square.setAccessMask(mask);
+                }
+            }
+        }
     }
 
     /**
@@ -0,0 +1,114 @@
+package nl.tudelft.jpacman.board;
+
+import java.util.BitSet;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The terrain of a board, its walls and ground, together with everything
+ * that follows from the terrain alone: the access masks of the squares and,
+ * if precomputed, the shortest paths between them. A template is immutable,
+ * so it can be shared by any number of threads, and the boards
+ * {@link BoardFactory#createBoard(BoardTemplate) created from it} share its
+ * masks and paths instead of computing them again.
+ */
+public final class BoardTemplate {
+
+    /**
+     * The access mask of a square that is not fixed.
+     */
+    static final int NO_FIXED_ACCESS = -1;
+
+    /**
+     * The width of the board.
+     */
+    private final int width;
+
+    /**
+     * The height of the board.
+     */
+    private final int height;
+
+    /**
+     * The walls, indexed by <code>x * height + y</code>. Never modified.
+     */
+    private final BitSet walls;
+
+    /**
+     * The fixed access masks of the squares, indexed by
+     * <code>x * height + y</code>, or {@link #NO_FIXED_ACCESS}. Never
+     * modified.
+     */
+    private final int[] accessMasks;
+
+    /**
+     * The shortest paths shared by the boards, if precomputed.
+     */
+    private final @Nullable NextHopTable nextHops;
+
+    /**
+     * Creates a new template.
+     *
+     * @param width
+     *            The width of the board.
+     * @param height
+     *            The height of the board.
+     * @param walls
+     *            The walls, which are no longer modified.
+     * @param accessMasks
+     *            The fixed access masks, which are no longer modified.
+     * @param nextHops
+     *            The shortest paths, if precomputed.
+     */
+    BoardTemplate(int width, int height, BitSet walls, int[] accessMasks,
+                  @Nullable NextHopTable nextHops) {
+        assert accessMasks.length == width * height;
+        this.width = width;
+        this.height = height;
+        this.walls = walls;
+        this.accessMasks = accessMasks;
+        this.nextHops = nextHops;
+    }
+
+    /**
+     * @return The number of columns of the board.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The number of rows of the board.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @param x
+     *            The x coordinate of a square.
+     * @param y
+     *            The y coordinate of a square.
+     * @return <code>true</code> iff the square is a wall.
+     */
+    public boolean isWall(int x, int y) {
+        return walls.get(x * height + y);
+    }
+
+    /**
+     * @param index
+     *            The index of a square, <code>x * height + y</code>.
+     * @return The fixed access mask of the square, or
+     *         {@link #NO_FIXED_ACCESS}.
+     */
+    int getAccessMask(int index) {
+        return accessMasks[index];
+    }
+
+    /**
+     * @return The shortest paths shared by the boards, if precomputed.
+     */
+    @Nullable NextHopTable getNextHops() {
+        return nextHops;
+    }
+}
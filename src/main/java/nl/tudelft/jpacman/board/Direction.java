@@ -69,4 +69,20 @@ public enum Direction {
     public int getDeltaY() {
         return deltaY;
     }
+
+    /**
+     * @return The direction opposite to this one.
+     */
+    public Direction getOpposite() {
+        switch (this) {
+            case NORTH:
+                return SOUTH;
+            case SOUTH:
+                return NORTH;
+            case WEST:
+                return EAST;
+            default:
+                return WEST;
+        }
+    }
 }
@@ -0,0 +1,300 @@
+package nl.tudelft.jpacman.board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The shortest paths between all pairs of squares of a board, stored as the
+ * direction of the first move from every square towards every other square.
+ * A direction takes two bits, so the table of a board of <code>n</code>
+ * squares takes <code>n * n / 4</code> bytes.
+ *
+ * <p>
+ * The table relies on the accessibility of the squares never changing, which
+ * holds for boards of walls and ground only: their access masks are
+ * precomputed by the {@link BoardFactory}. It is built with one breadth first
+ * search per destination, run in parallel.
+ * </p>
+ *
+ * <p>
+ * Squares are identified by their index <code>x * height + y</code>. Squares
+ * that cannot be entered from any neighbour (walls, mostly) are not covered
+ * by the table. The table does not refer to the squares themselves, so boards
+ * with the same terrain can share it.
+ * </p>
+ */
+public final class NextHopTable {
+
+    /**
+     * The largest number of squares of a board to build a table for, which
+     * bounds the table to 16 MB.
+     */
+    public static final int MAX_SQUARES = 1 << 13;
+
+    /**
+     * The directions, cached to avoid copying {@link Direction#values()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The number of bits per direction.
+     */
+    private static final int BITS_PER_HOP = 2;
+
+    /**
+     * The mask of a single direction.
+     */
+    private static final long HOP_MASK = (1L << BITS_PER_HOP) - 1;
+
+    /**
+     * The number of directions in a word of the table, as a shift.
+     */
+    private static final int HOPS_PER_WORD_SHIFT = 5;
+
+    /**
+     * The component of a square that cannot be entered.
+     */
+    private static final int CLOSED = -1;
+
+    /**
+     * The height of the board.
+     */
+    private final int height;
+
+    /**
+     * For every square, the connected component it belongs to, or
+     * {@link #CLOSED}. A square can reach exactly the squares in its own
+     * component.
+     */
+    private final int[] components;
+
+    /**
+     * The number of words per destination in {@link #hops}.
+     */
+    private final int stride;
+
+    /**
+     * The first moves, per destination. The move from square <code>s</code>
+     * towards square <code>t</code> is at position <code>s</code> of the row
+     * of <code>t</code>. Rows start at a word boundary, so that they can be
+     * filled concurrently.
+     */
+    private final long[] hops;
+
+    private NextHopTable(int height, int[] components) {
+        this.height = height;
+        this.components = components;
+        int size = components.length;
+        this.stride = (size + (1 << HOPS_PER_WORD_SHIFT) - 1) >>> HOPS_PER_WORD_SHIFT;
+        this.hops = new long[size * stride];
+    }
+
+    /**
+     * Builds the table of a board.
+     *
+     * @param board
+     *            The board to compute the shortest paths of.
+     * @return The table, or <code>null</code> if the board is larger than
+     *         {@link #MAX_SQUARES} or has squares of which the accessibility
+     *         may change.
+     */
+    public static @Nullable NextHopTable build(Board board) {
+        int size = board.getWidth() * board.getHeight();
+        if (size > MAX_SQUARES) {
+            return null;
+        }
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                if (!board.squareAt(x, y).hasFixedAccess()) {
+                    return null;
+                }
+            }
+        }
+
+        NextHopTable table = new NextHopTable(board.getHeight(), findComponents(board));
+        IntStream.range(0, size).parallel().forEach(target -> table.fillRow(board, target));
+        return table;
+    }
+
+    /**
+     * Labels the connected components of the squares that can be entered.
+     * Since those are exactly the squares every unit may occupy, moves
+     * between them are possible both ways.
+     *
+     * @param board
+     *            The board to label.
+     * @return The component of every square.
+     */
+    private static int[] findComponents(Board board) {
+        int height = board.getHeight();
+        int size = board.getWidth() * height;
+        boolean[] open = new boolean[size];
+        for (int index = 0; index < size; index++) {
+            Square square = board.squareAt(index / height, index % height);
+            int accessible = square.getFixedAccessMask();
+            for (Direction direction : DIRECTIONS) {
+                if ((accessible & (1 << direction.ordinal())) != 0) {
+                    open[indexOf(square.getSquareAt(direction), height)] = true;
+                }
+            }
+        }
+
+        int[] components = new int[size];
+        Arrays.fill(components, CLOSED);
+        int[] queue = new int[size];
+        int component = 0;
+        for (int root = 0; root < size; root++) {
+            if (!open[root] || components[root] != CLOSED) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            components[root] = component;
+            queue[tail++] = root;
+            while (head < tail) {
+                Square square = board.squareAt(queue[head] / height, queue[head] % height);
+                head++;
+                int accessible = square.getFixedAccessMask();
+                for (Direction direction : DIRECTIONS) {
+                    if ((accessible & (1 << direction.ordinal())) != 0) {
+                        int next = indexOf(square.getSquareAt(direction), height);
+                        if (components[next] == CLOSED) {
+                            components[next] = component;
+                            queue[tail++] = next;
+                        }
+                    }
+                }
+            }
+            component++;
+        }
+        return components;
+    }
+
+    /**
+     * Fills the row of a destination by a breadth first search from the
+     * destination, walking the moves backwards.
+     *
+     * @param board
+     *            The board to compute the shortest paths of.
+     * @param target
+     *            The index of the destination.
+     */
+    private void fillRow(Board board, int target) {
+        if (components[target] == CLOSED) {
+            return;
+        }
+        int size = components.length;
+        boolean[] visited = new boolean[size];
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        visited[target] = true;
+        queue[tail++] = target;
+        while (head < tail) {
+            int current = queue[head++];
+            Square square = board.squareAt(current / height, current % height);
+            for (Direction direction : DIRECTIONS) {
+                Square neighbour = square.getSquareAt(direction);
+                Direction back = direction.getOpposite();
+                int next = indexOf(neighbour, height);
+                if (!visited[next]
+                    && (neighbour.getFixedAccessMask() & (1 << back.ordinal())) != 0) {
+                    visited[next] = true;
+                    setHop(next, target, back);
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    private void setHop(int from, int to, Direction direction) {
+        int position = to * stride + (from >>> HOPS_PER_WORD_SHIFT);
+        int shift = (from & ((1 << HOPS_PER_WORD_SHIFT) - 1)) * BITS_PER_HOP;
+        hops[position] |= ((long) direction.ordinal()) << shift;
+    }
+
+    private Direction getHop(int from, int to) {
+        int position = to * stride + (from >>> HOPS_PER_WORD_SHIFT);
+        int shift = (from & ((1 << HOPS_PER_WORD_SHIFT) - 1)) * BITS_PER_HOP;
+        return DIRECTIONS[(int) ((hops[position] >>> shift) & HOP_MASK)];
+    }
+
+    private static int indexOf(Square square, int height) {
+        return square.getX() * height + square.getY();
+    }
+
+    /**
+     * Returns whether the table knows the paths starting from a square.
+     *
+     * @param square
+     *            The square to start from.
+     * @return <code>true</code> iff the square is on a board of this table
+     *         and can be entered from one of its neighbours.
+     */
+    public boolean covers(Square square) {
+        return square.isOnBoard() && square.getBoard().getNextHops() == this
+            && components[indexOf(square, height)] != CLOSED;
+    }
+
+    /**
+     * Returns the first move on a shortest path between two squares.
+     *
+     * Precondition: the table {@link #covers(Square) covers} the starting
+     * square and the destination is on the same board.
+     *
+     * @param from
+     *            The starting square.
+     * @param to
+     *            The destination.
+     * @return The direction to move in, or <code>null</code> if the
+     *         destination cannot be reached or is the starting square.
+     */
+    public @Nullable Direction nextHop(Square from, Square to) {
+        assert covers(from);
+        assert to.isOnBoard() && to.getBoard().getNextHops() == this;
+        int source = indexOf(from, height);
+        int target = indexOf(to, height);
+        if (source == target || components[source] != components[target]) {
+            return null;
+        }
+        return getHop(source, target);
+    }
+
+    /**
+     * Returns a shortest path between two squares by following the table.
+     *
+     * Precondition: the table {@link #covers(Square) covers} the starting
+     * square and the destination is on the same board.
+     *
+     * @param from
+     *            The starting square.
+     * @param to
+     *            The destination.
+     * @return The shortest path to the destination or <code>null</code> if
+     *         it cannot be reached. When the destination is the starting
+     *         square, an empty list is returned.
+     */
+    public @Nullable List<Direction> path(Square from, Square to) {
+        assert covers(from);
+        assert to.isOnBoard() && to.getBoard().getNextHops() == this;
+        int source = indexOf(from, height);
+        int target = indexOf(to, height);
+        if (components[source] != components[target]) {
+            return null;
+        }
+        List<Direction> path = new ArrayList<>();
+        Square square = from;
+        int current = source;
+        while (current != target) {
+            Direction direction = getHop(current, target);
+            path.add(direction);
+            square = square.getSquareAt(direction);
+            current = indexOf(square, height);
+        }
+        return path;
+    }
+}
@@ -1,15 +1,13 @@
 package nl.tudelft.jpacman.board;
 
-import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 
 import com.google.common.collect.ImmutableList;
 
 import nl.tudelft.jpacman.sprite.Sprite;
 
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A square on a {@link Board}, which can (or cannot, depending on the type) be
@@ -20,21 +18,52 @@ import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 public abstract class Square {
 
     /**
-     * The units occupying this square, in order of appearance.
+     * The value of the access mask when it has not been precomputed.
      */
-    private final List<Unit> occupants;
+    private static final int NO_ACCESS_MASK = -1;
 
     /**
-     * The collection of squares adjacent to this square.
+     * The units occupying this square, in order of appearance. The list is
+     * never modified but replaced on every {@link #put(Unit)} and
+     * {@link #remove(Unit)}, so it can be handed out without copying.
      */
-    private final Map<Direction, Square> neighbours;
+    private volatile ImmutableList<Unit> occupants;
+
+    /**
+     * The squares adjacent to this square, indexed by the ordinal of the
+     * direction they are in.
+     */
+    private final Square[] neighbours;
+
+    /**
+     * The precomputed directions in which the adjacent square is accessible
+     * to any unit, see {@link #getAccessMask(Unit)}, or
+     * {@link #NO_ACCESS_MASK} if it has not been precomputed.
+     */
+    private int accessMask;
+
+    /**
+     * The board this square has been placed on, if any.
+     */
+    private @Nullable Board board;
+
+    /**
+     * The column of this square on its board.
+     */
+    private int column;
+
+    /**
+     * The row of this square on its board.
+     */
+    private int row;
 
     /**
      * Creates a new, empty square.
      */
     protected Square() {
-        this.occupants = new ArrayList<>();
-        this.neighbours = new EnumMap<>(Direction.class);
+        this.occupants = ImmutableList.of();
+        this.neighbours = new Square[Direction.values().length];
+        this.accessMask = NO_ACCESS_MASK;
         assert invariant();
     }
 
@@ -46,7 +75,7 @@ public abstract class Square {
      * @return The adjacent square in the given direction.
      */
     public Square getSquareAt(Direction direction) {
-        return neighbours.get(direction);
+        return neighbours[direction.ordinal()];
     }
 
     /**
@@ -59,19 +88,139 @@ public abstract class Square {
      *            The direction the new neighbour is in, as seen from this cell.
      */
     public void link(Square neighbour, Direction direction) {
-        neighbours.put(direction, neighbour);
+        neighbours[direction.ordinal()] = neighbour;
+        accessMask = NO_ACCESS_MASK;
         assert invariant();
     }
 
+    /**
+     * Returns the directions in which the adjacent square is accessible to the
+     * unit, as a bit mask in which bit <code>1 &lt;&lt; d.ordinal()</code> is
+     * set iff the square in direction <code>d</code> is accessible. The mask
+     * is looked up if it was precomputed, or determined by asking the
+     * neighbours otherwise.
+     *
+     * @param unit
+     *            The unit to determine the accessible directions for.
+     * @return The bit mask of accessible directions.
+     */
+    public int getAccessMask(Unit unit) {
+        if (accessMask != NO_ACCESS_MASK) {
+            return accessMask;
+        }
+        int mask = 0;
+        for (int i = 0; i < neighbours.length; i++) {
+            if (neighbours[i].isAccessibleTo(unit)) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Precomputes the access mask of this square. This is only valid if the
+     * accessibility of all neighbours is the same for every unit and never
+     * changes. Linking a new neighbour discards the precomputed mask.
+     *
+     * @param mask
+     *            The directions in which the adjacent square is accessible.
+     */
+    void setAccessMask(int mask) {
+        assert mask >= 0;
+        accessMask = mask;
+    }
+
+    /**
+     * @return <code>true</code> iff the access mask of this square has been
+     *         precomputed, i.e. is the same for every unit.
+     */
+    boolean hasFixedAccess() {
+        return accessMask != NO_ACCESS_MASK;
+    }
+
+    /**
+     * Precondition: the access mask {@link #hasFixedAccess() is fixed}.
+     *
+     * @return The precomputed access mask of this square.
+     */
+    int getFixedAccessMask() {
+        assert hasFixedAccess();
+        return accessMask;
+    }
+
+    /**
+     * Records the position of this square on the board it is placed on.
+     *
+     * @param onBoard
+     *            The board this square is on.
+     * @param x
+     *            The column of this square on the board.
+     * @param y
+     *            The row of this square on the board.
+     */
+    void place(Board onBoard, int x, int y) {
+        this.board = onBoard;
+        this.column = x;
+        this.row = y;
+    }
+
+    /**
+     * Returns whether this square has been placed on a board, which is the
+     * case for all squares on boards created by the {@link BoardFactory}.
+     *
+     * @return <code>true</code> iff this square is on a board.
+     */
+    public boolean isOnBoard() {
+        return board != null;
+    }
+
+    /**
+     * Returns the board this square is on.
+     *
+     * Precondition: the square is on a board.
+     *
+     * @return The board this square is on.
+     */
+    public Board getBoard() {
+        assert board != null;
+        return board;
+    }
+
+    /**
+     * Returns the column of this square on its board.
+     *
+     * Precondition: the square is on a board.
+     *
+     * @return The <code>x</code> position of this square.
+     */
+    public int getX() {
+        assert isOnBoard();
+        return column;
+    }
+
+    /**
+     * Returns the row of this square on its board.
+     *
+     * Precondition: the square is on a board.
+     *
+     * @return The <code>y</code> position of this square.
+     */
+    public int getY() {
+        assert isOnBoard();
+        return row;
+    }
+
     /**
      * Returns an immutable list of units occupying this square, in the order in
-     * which they occupied this square (i.e. oldest first.)
+     * which they occupied this square (i.e. oldest first.) The list is a
+     * snapshot: it does not change when units enter or leave this square
+     * afterwards. Obtaining it does not allocate.
      *
      * @return An immutable list of units occupying this square, in the order in
      *         which they occupied this square (i.e. oldest first.)
      */
     public List<Unit> getOccupants() {
-        return ImmutableList.copyOf(occupants);
+        return occupants;
     }
 
     /**
@@ -84,7 +233,8 @@ public abstract class Square {
         assert occupant != null;
         assert !occupants.contains(occupant);
 
-        occupants.add(occupant);
+        occupants = ImmutableList.<Unit>builder().addAll(occupants).add(occupant).build();
+        markChanged();
     }
 
     /**
@@ -95,7 +245,27 @@ public abstract class Square {
      */
     void remove(Unit occupant) {
         assert occupant != null;
-        occupants.remove(occupant);
+        ImmutableList<Unit> current = occupants;
+        int index = current.indexOf(occupant);
+        if (index < 0) {
+            return;
+        }
+        occupants = ImmutableList.<Unit>builder()
+            .addAll(current.subList(0, index))
+            .addAll(current.subList(index + 1, current.size()))
+            .build();
+        markChanged();
+    }
+
+    /**
+     * Records on the board that the occupants of this square changed, or
+     * look different, so that it is drawn again.
+     */
+    void markChanged() {
+        Board onBoard = board;
+        if (onBoard != null) {
+            onBoard.markChanged(this);
+        }
     }
 
     /**
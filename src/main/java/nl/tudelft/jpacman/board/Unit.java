@@ -32,7 +32,10 @@ public abstract class Unit {
      * @param newDirection The new direction this unit is facing.
      */
     public void setDirection(Direction newDirection) {
-        this.direction = newDirection;
+        if (newDirection != direction) {
+            this.direction = newDirection;
+            appearanceChanged();
+        }
     }
 
     /**
@@ -93,6 +96,16 @@ public abstract class Unit {
         assert invariant();
     }
 
+    /**
+     * Records that this unit looks different, e.g. because its sprite
+     * changed, so that its square is drawn again.
+     */
+    protected void appearanceChanged() {
+        if (square != null) {
+            square.markChanged();
+        }
+    }
+
     /**
      * Tests whether the square this unit is occupying has this unit listed as
      * one of its occupiers.
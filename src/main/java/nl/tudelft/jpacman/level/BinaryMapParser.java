@@ -0,0 +1,288 @@
+package nl.tudelft.jpacman.level;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import nl.tudelft.jpacman.PacmanConfigurationException;
+import nl.tudelft.jpacman.board.BoardFactory;
+
+/**
+ * Creates new {@link Level}s from a compact binary format, which is loaded
+ * without parsing any text, and converts text maps to it.
+ *
+ * <p>
+ * All numbers are big-endian ints. A binary map holds:
+ * </p>
+ * <ul>
+ * <li>the magic number {@link #MAGIC} and the version {@link #VERSION};
+ * <li>the width and height of the map;
+ * <li>a bitmap of the walls, a bit for every square in the order
+ * <code>x * height + y</code>, starting at the lowest bit of the first byte;
+ * <li>the number of pellets, followed by the indices of their squares;
+ * <li>the number of ghosts, followed by the indices of their squares;
+ * <li>the number of start positions, followed by the indices of their
+ * squares.
+ * </ul>
+ * <p>
+ * No square may be listed twice, in the same list or in different ones, and
+ * no wall may be listed at all.
+ * </p>
+ * <p>
+ * The ghosts and start positions are stored in the order
+ * {@link MapParser#parseMap(char[][])} creates them, so a converted map gets
+ * the same ghosts.
+ * </p>
+ */
+public class BinaryMapParser {
+
+    /**
+     * The magic number every binary map starts with: "JPMB" in ASCII.
+     */
+    public static final int MAGIC = 0x4A504D42;
+
+    /**
+     * The version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The number of ints in the header: the magic number, the version, the
+     * width and the height.
+     */
+    private static final int HEADER_INTS = 4;
+
+    /**
+     * The number of lists of squares: pellets, ghosts and start positions.
+     */
+    private static final int SQUARE_LISTS = 3;
+
+    /**
+     * The factory that creates the levels.
+     */
+    private final LevelFactory levelCreator;
+
+    /**
+     * The factory that creates the squares and board.
+     */
+    private final BoardFactory boardCreator;
+
+    /**
+     * Creates a new binary map parser.
+     *
+     * @param levelFactory
+     *            The factory providing the NPC objects and the level.
+     * @param boardFactory
+     *            The factory providing the Square objects and the board.
+     */
+    public BinaryMapParser(LevelFactory levelFactory, BoardFactory boardFactory) {
+        this.levelCreator = levelFactory;
+        this.boardCreator = boardFactory;
+    }
+
+    /**
+     * Loads a binary map file by mapping it into memory.
+     *
+     * @param file
+     *            The binary map file.
+     * @return The level stored in the file.
+     * @throws IOException
+     *             when the file could not be read.
+     * @throws PacmanConfigurationException
+     *             If the file is not a valid binary map.
+     */
+    public Level parseMap(Path file) throws IOException {
+        return parseTemplate(file).instantiate();
+    }
+
+    /**
+     * Loads a binary map from a buffer, starting at its position.
+     *
+     * @param buffer
+     *            The buffer holding the binary map.
+     * @return The level stored in the buffer.
+     * @throws PacmanConfigurationException
+     *             If the buffer does not hold a valid binary map.
+     */
+    public Level parseMap(ByteBuffer buffer) {
+        return parseTemplate(buffer).instantiate();
+    }
+
+    /**
+     * Loads a binary map file into a template, by mapping it into memory.
+     *
+     * @param file
+     *            The binary map file.
+     * @return The template of the levels stored in the file.
+     * @throws IOException
+     *             when the file could not be read.
+     * @throws PacmanConfigurationException
+     *             If the file is not a valid binary map.
+     */
+    public LevelTemplate parseTemplate(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return parseTemplate(buffer);
+    }
+
+    /**
+     * Loads a binary map from a buffer into a template, starting at its
+     * position. The walls are read as a bitmap, without creating any
+     * squares; the squares are only created when a level is created from the
+     * template.
+     *
+     * @param buffer
+     *            The buffer holding the binary map.
+     * @return The template of the levels stored in the buffer.
+     * @throws PacmanConfigurationException
+     *             If the buffer does not hold a valid binary map, e.g. one
+     *             with a unit on a wall or two units on the same square.
+     */
+    public LevelTemplate parseTemplate(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate();
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new PacmanConfigurationException("Not a binary map.");
+            }
+            int version = data.getInt();
+            if (version != VERSION) {
+                throw new PacmanConfigurationException(
+                    "Unsupported binary map version: " + version);
+            }
+            int width = data.getInt();
+            int height = data.getInt();
+            long squares = (long) width * height;
+            if (width <= 0 || height <= 0 || squares > Integer.MAX_VALUE
+                || (squares + Byte.SIZE - 1) / Byte.SIZE > data.remaining()) {
+                throw new PacmanConfigurationException(
+                    "Invalid binary map size: " + width + "x" + height);
+            }
+            byte[] bitmap = new byte[(int) ((squares + Byte.SIZE - 1) / Byte.SIZE)];
+            data.get(bitmap);
+            BitSet walls = BitSet.valueOf(bitmap);
+            walls.clear((int) squares, bitmap.length * Byte.SIZE);
+
+            BitSet occupied = new BitSet((int) squares);
+            int[] pellets = readIndices(data, (int) squares, walls, occupied);
+            int[] ghosts = readIndices(data, (int) squares, walls, occupied);
+            int[] starts = readIndices(data, (int) squares, walls, occupied);
+            return new LevelTemplate(levelCreator, boardCreator,
+                boardCreator.createTemplate(width, height, walls), pellets, ghosts, starts);
+        } catch (BufferUnderflowException e) {
+            throw new PacmanConfigurationException("Binary map is truncated.", e);
+        }
+    }
+
+    /**
+     * Reads a list of squares with a unit on them.
+     *
+     * @param data
+     *            The buffer, positioned at the number of squares.
+     * @param squares
+     *            The number of squares of the map.
+     * @param walls
+     *            The walls of the map, on which no unit may be.
+     * @param occupied
+     *            The squares read before, on which no other unit may be;
+     *            the squares read are added.
+     * @return The squares read.
+     */
+    private static int[] readIndices(ByteBuffer data, int squares, BitSet walls,
+                                     BitSet occupied) {
+        int count = data.getInt();
+        if (count < 0 || count > data.remaining() / Integer.BYTES) {
+            throw new PacmanConfigurationException("Invalid count in binary map: " + count);
+        }
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = readIndex(data, squares, walls, occupied);
+        }
+        return indices;
+    }
+
+    private static int readIndex(ByteBuffer data, int squares, BitSet walls,
+                                 BitSet occupied) {
+        int index = data.getInt();
+        if (index < 0 || index >= squares) {
+            throw new PacmanConfigurationException("Invalid square in binary map: " + index);
+        }
+        if (walls.get(index)) {
+            throw new PacmanConfigurationException("Unit on a wall in binary map: " + index);
+        }
+        if (occupied.get(index)) {
+            throw new PacmanConfigurationException(
+                "Several units on a square in binary map: " + index);
+        }
+        occupied.set(index);
+        return index;
+    }
+
+    /**
+     * Converts a map to the binary format.
+     *
+     * @param map
+     *            The text representation of the board, as read by
+     *            {@link MapParser#parseMap(char[][])}.
+     * @return A buffer holding the binary map, positioned at its start.
+     * @throws PacmanConfigurationException
+     *             If the map holds an invalid character.
+     */
+    public static ByteBuffer convert(char[][] map) {
+        MapLayout layout = MapLayout.of(map);
+        int squares = layout.getWidth() * layout.getHeight();
+        byte[] walls = Arrays.copyOf(layout.getWalls().toByteArray(),
+            (squares + Byte.SIZE - 1) / Byte.SIZE);
+        int ints = HEADER_INTS + SQUARE_LISTS + layout.getPellets().length
+            + layout.getGhosts().length + layout.getStartPositions().length;
+        ByteBuffer buffer = ByteBuffer.allocate(ints * Integer.BYTES + walls.length);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(layout.getWidth())
+            .putInt(layout.getHeight());
+        buffer.put(walls);
+        putIndices(buffer, layout.getPellets());
+        putIndices(buffer, layout.getGhosts());
+        putIndices(buffer, layout.getStartPositions());
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void putIndices(ByteBuffer buffer, int[] indices) {
+        buffer.putInt(indices.length);
+        for (int index : indices) {
+            buffer.putInt(index);
+        }
+    }
+
+    /**
+     * Converts a text map file to a binary map file.
+     *
+     * @param textMap
+     *            The text map, with every line a row of squares and the first
+     *            line the top row.
+     * @param binaryMap
+     *            The binary map file to write, replacing it if it exists.
+     * @throws IOException
+     *             when a file could not be read or written.
+     * @throws PacmanConfigurationException
+     *             If the text map is not properly formatted.
+     */
+    public static void convert(Path textMap, Path binaryMap) throws IOException {
+        char[][] map = MapParser.toGrid(Files.readAllLines(textMap, StandardCharsets.UTF_8));
+        ByteBuffer buffer = convert(map);
+        try (FileChannel channel = FileChannel.open(binaryMap, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
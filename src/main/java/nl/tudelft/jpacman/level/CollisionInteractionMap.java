@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nl.tudelft.jpacman.board.Unit;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -17,17 +18,31 @@ import org.checkerframework.checker.nullness.qual.KeyFor;
  */
 public class CollisionInteractionMap implements CollisionMap {
 
+    /**
+     * The handler used for collisions no handler is listed for.
+     */
+    private static final CollisionHandler<Unit, Unit> NO_HANDLER = (collider, collidee) -> { };
+
     /**
      * The collection of collision handlers.
      */
     private final Map<Class<? extends Unit>,
         Map<Class<? extends Unit>, CollisionHandler<?, ?>>> handlers;
 
+    /**
+     * The handlers resolved so far for the actual classes of colliding
+     * parties, so that the inheritance of these classes is only inspected
+     * once. Cleared whenever a handler is added.
+     */
+    private final Map<Class<? extends Unit>,
+        Map<Class<? extends Unit>, CollisionHandler<?, ?>>> resolved;
+
     /**
      * Creates a new, empty collision map.
      */
     public CollisionInteractionMap() {
         this.handlers = new HashMap<>();
+        this.resolved = new ConcurrentHashMap<>();
     }
 
     /**
@@ -97,6 +112,7 @@ public class CollisionInteractionMap implements CollisionMap {
 
         Map<Class<? extends Unit>, CollisionHandler<?, ?>> map = handlers.get(collider);
         map.put(collidee, handler);
+        resolved.clear();
     }
 
     /**
@@ -117,23 +133,56 @@ public class CollisionInteractionMap implements CollisionMap {
     @Override
     public <C1 extends Unit, C2 extends Unit> void collide(C1 collider,
                                                            C2 collidee) {
-        Class<? extends Unit> colliderKey = getMostSpecificClass(handlers, collider.getClass());
+        Class<? extends Unit> colliderClass = collider.getClass();
+        Class<? extends Unit> collideeClass = collidee.getClass();
+        Map<Class<? extends Unit>, CollisionHandler<?, ?>> row = resolved.get(colliderClass);
+        if (row == null) {
+            row = new ConcurrentHashMap<>();
+            Map<Class<? extends Unit>, CollisionHandler<?, ?>> raced =
+                resolved.putIfAbsent(colliderClass, row);
+            if (raced != null) {
+                row = raced;
+            }
+        }
+        CollisionHandler<?, ?> handler = row.get(collideeClass);
+        if (handler == null) {
+            handler = findHandler(colliderClass, collideeClass);
+            row.put(collideeClass, handler);
+        }
+
+        ((CollisionHandler<C1, C2>) handler).handleCollision(collider, collidee);
+    }
+
+    /**
+     * Finds the handler for the collision between two classes, by looking up
+     * the most specific collider class listed, and the most specific collidee
+     * class listed for that collider.
+     *
+     * @param colliderClass
+     *            The class of the collider.
+     * @param collideeClass
+     *            The class of the collidee.
+     * @return The handler for the collision, or {@link #NO_HANDLER} if none
+     *         is listed.
+     */
+    private CollisionHandler<?, ?> findHandler(Class<? extends Unit> colliderClass,
+                                               Class<? extends Unit> collideeClass) {
+        Class<? extends Unit> colliderKey = getMostSpecificClass(handlers, colliderClass);
         if (colliderKey == null) {
-            return;
+            return NO_HANDLER;
         }
 
         Map<Class<? extends Unit>, CollisionHandler<?, ?>> map = handlers.get(colliderKey);
-        Class<? extends Unit> collideeKey = getMostSpecificClass(map, collidee.getClass());
+        Class<? extends Unit> collideeKey = getMostSpecificClass(map, collideeClass);
         if (collideeKey == null) {
-            return;
+            return NO_HANDLER;
         }
 
-        CollisionHandler<C1, C2> collisionHandler = (CollisionHandler<C1, C2>) map.get(collideeKey);
+        CollisionHandler<?, ?> collisionHandler = map.get(collideeKey);
         if (collisionHandler == null) {
-            return;
+            return NO_HANDLER;
         }
-
-        collisionHandler.handleCollision(collider, collidee);
+        return collisionHandler;
     }
 
     /**
@@ -0,0 +1,252 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.Arrays;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The distance from every square of a board to the nearest player, together
+ * with the direction to take towards that player. The field is computed by a
+ * single breadth first search starting from all players at once, and is only
+ * recomputed when it is queried after a player has moved. Every query after
+ * that takes constant time, no matter how many ghosts ask.
+ *
+ * <p>
+ * The search only crosses squares the players themselves can occupy, which
+ * on boards of walls and ground are the squares the ghosts can occupy too.
+ * Only squares on the board of the field can be queried; for other squares
+ * every player is unreachable.
+ * </p>
+ *
+ * <p>
+ * The field holds a few bytes for every square of the board, so it is only
+ * allocated when it is first queried, and levels only share a field on
+ * boards of at most {@link #MAX_SQUARES} squares.
+ * </p>
+ */
+public class DistanceField {
+
+    /**
+     * The distance of a square from which no player can be reached.
+     */
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * The number of squares of the largest board a level shares a field on.
+     * On larger boards the ghosts search for the players themselves.
+     */
+    public static final int MAX_SQUARES = 1 << 18;
+
+    /**
+     * The directions, cached to avoid copying {@link Direction#values()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The value in {@link #directions} of a square that is occupied by a
+     * player itself.
+     */
+    private static final byte NO_DIRECTION = -1;
+
+    /**
+     * The board of this field.
+     */
+    private final Board board;
+
+    /**
+     * The players to compute the distances to.
+     */
+    private final List<Player> players;
+
+    /**
+     * For every square, the distance to the nearest player. Empty until the
+     * field is first computed, as are the other arrays.
+     */
+    private int[] distances = new int[0];
+
+    /**
+     * For every square, the ordinal of the direction towards the nearest
+     * player.
+     */
+    private byte[] directions = new byte[0];
+
+    /**
+     * For every square, the nearest player.
+     */
+    private @Nullable Player[] nearest = new Player[0];
+
+    /**
+     * The queue of the search.
+     */
+    private int[] queue = new int[0];
+
+    /**
+     * <code>true</code> iff a player may have moved since the last search.
+     */
+    private boolean stale;
+
+    /**
+     * Creates a new distance field.
+     *
+     * @param board
+     *            The board of the field.
+     * @param players
+     *            The players to compute the distances to. The list is read
+     *            on every search, so players added later are taken into
+     *            account.
+     */
+    public DistanceField(Board board, List<Player> players) {
+        this.board = board;
+        this.players = players;
+        this.stale = true;
+    }
+
+    /**
+     * Tells whether a level shares a field on the board.
+     *
+     * @param board
+     *            The board of the level.
+     * @return <code>true</code> iff the board has at most
+     *         {@link #MAX_SQUARES} squares.
+     */
+    public static boolean supports(Board board) {
+        return (long) board.getWidth() * board.getHeight() <= MAX_SQUARES;
+    }
+
+    /**
+     * Marks this field as out of date, e.g. because a player moved. The next
+     * query will recompute the field.
+     */
+    public synchronized void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Returns the number of moves it takes to reach the nearest player from
+     * the square.
+     *
+     * @param square
+     *            The square to start from.
+     * @return The distance to the nearest player, or {@link #UNREACHABLE}.
+     */
+    public synchronized int distanceToNearestPlayer(Square square) {
+        int index = indexOf(square);
+        if (index < 0) {
+            return UNREACHABLE;
+        }
+        return distances[index];
+    }
+
+    /**
+     * Returns the direction of the first move on a shortest path from the
+     * square to the nearest player.
+     *
+     * @param square
+     *            The square to start from.
+     * @return The direction to move in, or <code>null</code> if no player can
+     *         be reached or the square is occupied by a player.
+     */
+    public synchronized @Nullable Direction directionToNearestPlayer(Square square) {
+        int index = indexOf(square);
+        if (index < 0 || directions[index] == NO_DIRECTION) {
+            return null;
+        }
+        return DIRECTIONS[directions[index]];
+    }
+
+    /**
+     * Returns the player that is nearest to the square.
+     *
+     * @param square
+     *            The square to start from.
+     * @return The nearest player, or <code>null</code> if no player can be
+     *         reached.
+     */
+    public synchronized @Nullable Player nearestPlayer(Square square) {
+        int index = indexOf(square);
+        if (index < 0) {
+            return null;
+        }
+        return nearest[index];
+    }
+
+    /**
+     * Returns the index of the square, recomputing the field if it is stale.
+     *
+     * @param square
+     *            The square to look up.
+     * @return The index of the square, or -1 if it is not on the board.
+     */
+    private int indexOf(Square square) {
+        if (stale) {
+            compute();
+            stale = false;
+        }
+        return indexOfSquare(square);
+    }
+
+    /**
+     * Computes the field by a breadth first search from all players at once,
+     * allocating its arrays the first time.
+     * The search walks the links backwards: a square is reached from its
+     * neighbour in direction <code>d</code> by moving in the opposite
+     * direction.
+     */
+    private void compute() {
+        int size = board.getWidth() * board.getHeight();
+        if (distances.length != size) {
+            distances = new int[size];
+            directions = new byte[size];
+            nearest = new Player[size];
+            queue = new int[size];
+        }
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(directions, NO_DIRECTION);
+        Arrays.fill(nearest, null);
+        int head = 0;
+        int tail = 0;
+        for (Player player : players) {
+            int index = player.hasSquare() ? indexOfSquare(player.getSquare()) : -1;
+            if (index >= 0 && distances[index] == UNREACHABLE) {
+                distances[index] = 0;
+                nearest[index] = player;
+                queue[tail++] = index;
+            }
+        }
+        int height = board.getHeight();
+        while (head < tail) {
+            int current = queue[head++];
+            Square square = board.squareAt(current / height, current % height);
+            Player player = nearest[current];
+            assert player != null;
+            int accessible = square.getAccessMask(player);
+            for (Direction direction : DIRECTIONS) {
+                if ((accessible & (1 << direction.ordinal())) != 0) {
+                    int next = indexOfSquare(square.getSquareAt(direction));
+                    if (next >= 0 && distances[next] == UNREACHABLE) {
+                        distances[next] = distances[current] + 1;
+                        directions[next] = (byte) direction.getOpposite().ordinal();
+                        nearest[next] = player;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param square
+     *            The square to look up.
+     * @return The dense index of the square, or -1 if it is not on the board.
+     */
+    private int indexOfSquare(Square square) {
+        if (!square.isOnBoard() || square.getBoard() != board) {
+            return -1;
+        }
+        return square.getX() * board.getHeight() + square.getY();
+    }
+}
@@ -1,21 +1,20 @@
 package nl.tudelft.jpacman.level;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import nl.tudelft.jpacman.board.Board;
 import nl.tudelft.jpacman.board.Direction;
 import nl.tudelft.jpacman.board.Square;
 import nl.tudelft.jpacman.board.Unit;
 import nl.tudelft.jpacman.npc.NPC;
+import nl.tudelft.jpacman.npc.ghost.Ghost;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -33,9 +32,10 @@ public class Level {
     private final Board board;
 
     /**
-     * The lock that ensures moves are executed sequential.
+     * The lock that ensures moves are executed sequential. Unlike a monitor,
+     * it does not pin the carrier of a virtual thread waiting for it.
      */
-    private final Object moveLock = new Object();
+    private final ReentrantLock moveLock = new ReentrantLock();
 
     /**
      * The lock that ensures starting and stopping can't interfere with each
@@ -44,9 +44,15 @@ public class Level {
     private final Object startStopLock = new Object();
 
     /**
-     * The NPCs of this level and, if they are running, their schedules.
+     * The NPCs of this level and, if they are running, their schedules. The
+     * NPCs are kept, and started, in the order they were given.
      */
-    private final Map<NPC, @Nullable ScheduledExecutorService> npcs;
+    private final Map<NPC, LevelScheduler.@Nullable Task> npcs;
+
+    /**
+     * The scheduler that moves the NPCs.
+     */
+    private final LevelScheduler scheduler;
 
     /**
      * <code>true</code> iff this level is currently in progress, i.e. players
@@ -80,7 +86,20 @@ public class Level {
     private final Set<LevelObserver> observers;
 
     /**
-     * Creates a new level for the board.
+     * The number of pellets remaining on the board. Counted once when the
+     * level is created and maintained by {@link #move(Unit, Direction)}.
+     */
+    private volatile int pellets;
+
+    /**
+     * The distances to the players, shared by all ghosts on this level, or
+     * <code>null</code> if there are no ghosts or the board is too large.
+     */
+    private final @Nullable DistanceField playerDistances;
+
+    /**
+     * Creates a new level for the board, of which the NPCs are moved by the
+     * {@link TickScheduler#shared() shared} scheduler.
      *
      * @param board
      *            The board for the level.
@@ -93,21 +112,71 @@ public class Level {
      */
     public Level(Board board, List<NPC> ghosts, List<Square> startPositions,
                  CollisionMap collisionMap) {
+        this(board, ghosts, startPositions, collisionMap, TickScheduler.shared());
+    }
+
+    /**
+     * Creates a new level for the board.
+     *
+     * @param board
+     *            The board for the level.
+     * @param ghosts
+     *            The ghosts on the board.
+     * @param startPositions
+     *            The squares on which players start on this board.
+     * @param collisionMap
+     *            The collection of collisions that should be handled.
+     * @param levelScheduler
+     *            The scheduler that moves the NPCs.
+     */
+    public Level(Board board, List<NPC> ghosts, List<Square> startPositions,
+                 CollisionMap collisionMap, LevelScheduler levelScheduler) {
         assert board != null;
         assert ghosts != null;
         assert startPositions != null;
+        assert levelScheduler != null;
 
         this.board = board;
+        this.scheduler = levelScheduler;
         this.inProgress = false;
-        this.npcs = new HashMap<>();
-        for (NPC ghost : ghosts) {
-            npcs.put(ghost, null);
-        }
         this.startSquares = startPositions;
         this.startSquareIndex = 0;
         this.players = new ArrayList<>();
+        this.playerDistances = sharesDistances(board, ghosts)
+            ? new DistanceField(board, players) : null;
+        this.npcs = new LinkedHashMap<>();
+        for (NPC ghost : ghosts) {
+            npcs.put(ghost, null);
+            if (ghost instanceof Ghost && playerDistances != null) {
+                ((Ghost) ghost).setPlayerDistances(playerDistances);
+            }
+        }
         this.collisions = collisionMap;
         this.observers = new HashSet<>();
+        this.pellets = countPellets(board);
+    }
+
+    /**
+     * Tells whether the ghosts of a level share the distances to the players.
+     * They only do on boards the {@link DistanceField} supports, and only if
+     * there is a ghost to use them.
+     *
+     * @param board
+     *            The board of the level.
+     * @param ghosts
+     *            The ghosts on the board.
+     * @return <code>true</code> iff the level should share a field.
+     */
+    private static boolean sharesDistances(Board board, List<NPC> ghosts) {
+        if (!DistanceField.supports(board)) {
+            return false;
+        }
+        for (NPC ghost : ghosts) {
+            if (ghost instanceof Ghost) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -148,6 +217,7 @@ public class Level {
         players.add(player);
         Square square = startSquares.get(startSquareIndex);
         player.occupy(square);
+        invalidateDistances();
         startSquareIndex++;
         startSquareIndex %= startSquares.size();
     }
@@ -161,6 +231,29 @@ public class Level {
         return board;
     }
 
+    /**
+     * Returns the distances from every square to the nearest player on this
+     * level. The distances are recomputed when they are queried after a
+     * player moved.
+     *
+     * @return The distances to the players on this level, or
+     *         <code>null</code> if the ghosts of this level do not share any.
+     */
+    public @Nullable DistanceField getPlayerDistances() {
+        return playerDistances;
+    }
+
+    /**
+     * Marks the shared distances to the players as out of date, if there
+     * are any.
+     */
+    private void invalidateDistances() {
+        DistanceField distances = playerDistances;
+        if (distances != null) {
+            distances.invalidate();
+        }
+    }
+
     /**
      * Moves the unit into the given direction if possible and handles all
      * collisions.
@@ -179,7 +272,8 @@ public class Level {
             return;
         }
 
-        synchronized (moveLock) {
+        moveLock.lock();
+        try {
             unit.setDirection(direction);
             Square location = unit.getSquare();
             Square destination = location.getSquareAt(direction);
@@ -187,11 +281,19 @@ public class Level {
             if (destination.isAccessibleTo(unit)) {
                 List<Unit> occupants = destination.getOccupants();
                 unit.occupy(destination);
+                if (unit instanceof Player) {
+                    invalidateDistances();
+                }
                 for (Unit occupant : occupants) {
                     collisions.collide(unit, occupant);
+                    if (occupant instanceof Pellet && !occupant.hasSquare()) {
+                        pellets--;
+                    }
                 }
             }
             updateObservers();
+        } finally {
+            moveLock.unlock();
         }
     }
 
@@ -229,24 +331,20 @@ public class Level {
      */
     private void startNPCs() {
         for (final NPC npc : npcs.keySet()) {
-            ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor();
-
-            service.schedule(new NpcMoveTask(service, npc),
-                npc.getInterval() / 2, TimeUnit.MILLISECONDS);
-
-            npcs.put(npc, service);
+            npcs.put(npc, scheduler.schedule(npc, new NpcMoveTask(npc)));
         }
     }
 
     /**
-     * Stops all NPC movement scheduling and interrupts any movements being
-     * executed.
+     * Stops all NPC movement scheduling. Movements being executed are
+     * finished, but will not be followed by new ones.
      */
     private void stopNPCs() {
-        for (Entry<NPC, @Nullable ScheduledExecutorService> entry : npcs.entrySet()) {
-            ScheduledExecutorService schedule = entry.getValue();
+        for (Entry<NPC, LevelScheduler.@Nullable Task> entry : npcs.entrySet()) {
+            LevelScheduler.Task schedule = entry.getValue();
             assert schedule != null;
-            schedule.shutdownNow();
+            schedule.cancel();
+            entry.setValue(null);
         }
     }
 
@@ -293,38 +391,46 @@ public class Level {
     }
 
     /**
-     * Counts the pellets remaining on the board.
+     * Returns the number of pellets remaining on the board. Pellets are
+     * counted when the level is created; from then on every pellet that is
+     * taken off the board by a collision during a move is subtracted.
      *
      * @return The amount of pellets remaining on the board.
      */
     public int remainingPellets() {
-        Board board = getBoard();
-        int pellets = 0;
+        assert pellets >= 0;
+        return pellets;
+    }
+
+    /**
+     * Counts the pellets on the board.
+     *
+     * @param board
+     *            The board to count the pellets on.
+     * @return The amount of pellets on the board.
+     */
+    private static int countPellets(Board board) {
+        int count = 0;
         for (int x = 0; x < board.getWidth(); x++) {
             for (int y = 0; y < board.getHeight(); y++) {
                 for (Unit unit : board.squareAt(x, y).getOccupants()) {
                     if (unit instanceof Pellet) {
-                        pellets++;
+                        count++;
                     }
                 }
             }
         }
-        assert pellets >= 0;
-        return pellets;
+        return count;
     }
 
     /**
-     * A task that moves an NPC and reschedules itself after it finished.
+     * A task that makes a single move for an NPC. The {@link LevelScheduler}
+     * decides when the next move is made.
      *
      * @author Jeroen Roosen
      */
     private final class NpcMoveTask implements Runnable {
 
-        /**
-         * The service executing the task.
-         */
-        private final ScheduledExecutorService service;
-
         /**
          * The NPC to move.
          */
@@ -333,13 +439,10 @@ public class Level {
         /**
          * Creates a new task.
          *
-         * @param service
-         *            The service that executes the task.
          * @param npc
          *            The NPC to move.
          */
-        NpcMoveTask(ScheduledExecutorService service, NPC npc) {
-            this.service = service;
+        NpcMoveTask(NPC npc) {
             this.npc = npc;
         }
 
@@ -349,8 +452,6 @@ public class Level {
             if (nextMove != null) {
                 move(npc, nextMove);
             }
-            long interval = npc.getInterval();
-            service.schedule(this, interval, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -48,7 +48,13 @@ public class LevelFactory {
     private final GhostFactory ghostFact;
 
     /**
-     * Creates a new level factory.
+     * The scheduler that moves the NPCs of the levels created.
+     */
+    private final LevelScheduler scheduler;
+
+    /**
+     * Creates a new level factory, of which the levels share the
+     * {@link TickScheduler#shared() default} scheduler.
      *
      * @param spriteStore
      *            The sprite store providing the sprites for units.
@@ -56,9 +62,25 @@ public class LevelFactory {
      *            The factory providing ghosts.
      */
     public LevelFactory(PacManSprites spriteStore, GhostFactory ghostFactory) {
+        this(spriteStore, ghostFactory, TickScheduler.shared());
+    }
+
+    /**
+     * Creates a new level factory.
+     *
+     * @param spriteStore
+     *            The sprite store providing the sprites for units.
+     * @param ghostFactory
+     *            The factory providing ghosts.
+     * @param levelScheduler
+     *            The scheduler that moves the NPCs of the levels created.
+     */
+    public LevelFactory(PacManSprites spriteStore, GhostFactory ghostFactory,
+                        LevelScheduler levelScheduler) {
         this.sprites = spriteStore;
         this.ghostIndex = -1;
         this.ghostFact = ghostFactory;
+        this.scheduler = levelScheduler;
     }
 
     /**
@@ -78,7 +100,7 @@ public class LevelFactory {
         // We'll adopt the simple collision map for now.
         CollisionMap collisionMap = new PlayerCollisions();
 
-        return new Level(board, ghosts, startPositions, collisionMap);
+        return new Level(board, ghosts, startPositions, collisionMap, scheduler);
     }
 
     /**
@@ -89,7 +111,20 @@ public class LevelFactory {
     NPC createGhost() {
         ghostIndex++;
         ghostIndex %= GHOSTS;
-        switch (ghostIndex) {
+        return createGhost(ghostIndex);
+    }
+
+    /**
+     * Creates a new ghost of the kind the n-th ghost of a level gets, cycling
+     * through the kinds of ghosts. Unlike {@link #createGhost()}, this can be
+     * called from multiple threads at once.
+     *
+     * @param index
+     *            The index of the ghost in its level.
+     * @return The new ghost.
+     */
+    NPC createGhost(int index) {
+        switch (index % GHOSTS) {
             case BLINKY:
                 return ghostFact.createBlinky();
             case INKY:
@@ -0,0 +1,35 @@
+package nl.tudelft.jpacman.level;
+
+import nl.tudelft.jpacman.npc.NPC;
+
+/**
+ * Drives the movement of the NPCs on a {@link Level}. A scheduler may serve
+ * the NPCs of many levels at the same time.
+ */
+public interface LevelScheduler {
+
+    /**
+     * Starts moving an NPC. The first move is made after half of the NPC's
+     * {@link NPC#getInterval()}, every next move is made one (freshly
+     * requested) interval after the previous one finished.
+     *
+     * @param npc
+     *            The NPC to move.
+     * @param move
+     *            The task that makes a single move for the NPC.
+     * @return The task, which can be used to stop the movement.
+     */
+    Task schedule(NPC npc, Runnable move);
+
+    /**
+     * The repeated movement of a single NPC.
+     */
+    interface Task {
+
+        /**
+         * Stops this task. A move that is being executed will be finished,
+         * but no new moves will be started.
+         */
+        void cancel();
+    }
+}
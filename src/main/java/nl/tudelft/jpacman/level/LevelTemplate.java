@@ -0,0 +1,120 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.BoardTemplate;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.npc.NPC;
+
+/**
+ * A parsed map from which any number of levels can be created, each with its
+ * own squares, pellets and ghosts. The template is immutable and can be
+ * shared by any number of threads; the terrain is parsed once and the access
+ * masks and shortest paths of its {@link BoardTemplate} are shared by all
+ * levels created from it.
+ *
+ * <p>
+ * Only what follows from the map is shared, not the squares: every level
+ * still gets its own squares, linked anew, since squares hold their
+ * occupants. Creating a level therefore saves parsing the map and computing
+ * its masks and paths, but still takes time linear in its number of squares.
+ * </p>
+ *
+ * <p>
+ * Like the {@link MapParser}, the n-th ghost of the map, counting column by
+ * column, is of the n-th kind of ghost the {@link LevelFactory} cycles
+ * through.
+ * </p>
+ */
+public final class LevelTemplate {
+
+    /**
+     * The factory that creates the levels.
+     */
+    private final LevelFactory levelCreator;
+
+    /**
+     * The factory that creates the squares and board.
+     */
+    private final BoardFactory boardCreator;
+
+    /**
+     * The terrain of the boards.
+     */
+    private final BoardTemplate board;
+
+    /**
+     * The squares with a pellet, as <code>x * height + y</code>.
+     */
+    private final int[] pellets;
+
+    /**
+     * The squares with a ghost, as <code>x * height + y</code>.
+     */
+    private final int[] ghosts;
+
+    /**
+     * The start positions, as <code>x * height + y</code>.
+     */
+    private final int[] startPositions;
+
+    /**
+     * Creates a new template.
+     *
+     * @param levelFactory
+     *            The factory providing the NPC objects and the levels.
+     * @param boardFactory
+     *            The factory providing the Square objects and the boards.
+     * @param board
+     *            The terrain of the boards.
+     * @param pellets
+     *            The squares with a pellet, which are no longer modified.
+     * @param ghosts
+     *            The squares with a ghost, which are no longer modified.
+     * @param startPositions
+     *            The start positions, which are no longer modified.
+     */
+    LevelTemplate(LevelFactory levelFactory, BoardFactory boardFactory, BoardTemplate board,
+                  int[] pellets, int[] ghosts, int[] startPositions) {
+        this.levelCreator = levelFactory;
+        this.boardCreator = boardFactory;
+        this.board = board;
+        this.pellets = pellets;
+        this.ghosts = ghosts;
+        this.startPositions = startPositions;
+    }
+
+    /**
+     * @return The terrain of the boards of the levels.
+     */
+    public BoardTemplate getBoardTemplate() {
+        return board;
+    }
+
+    /**
+     * Creates a new level from this template.
+     *
+     * @return A new level, with its own squares, pellets and ghosts.
+     */
+    public Level instantiate() {
+        Board created = boardCreator.createBoard(board);
+        int height = board.getHeight();
+        for (int index : pellets) {
+            levelCreator.createPellet().occupy(created.squareAt(index / height, index % height));
+        }
+        List<NPC> npcs = new ArrayList<>(ghosts.length);
+        for (int i = 0; i < ghosts.length; i++) {
+            NPC ghost = levelCreator.createGhost(i);
+            ghost.occupy(created.squareAt(ghosts[i] / height, ghosts[i] % height));
+            npcs.add(ghost);
+        }
+        List<Square> starts = new ArrayList<>(startPositions.length);
+        for (int index : startPositions) {
+            starts.add(created.squareAt(index / height, index % height));
+        }
+        return levelCreator.createLevel(created, npcs, starts);
+    }
+}
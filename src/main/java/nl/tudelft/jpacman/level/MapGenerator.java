@@ -0,0 +1,410 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates maps of any size, to be parsed by
+ * {@link MapParser#parseMap(char[][])}. The same seed and settings always
+ * generate the same map.
+ *
+ * <p>
+ * The squares with odd coordinates are the cells of a maze, separated by
+ * walls and pillars. The cells are first connected by a random spanning tree,
+ * so every cell can be reached, after which every dead end is opened up to a
+ * neighbouring cell, and the given fraction of the remaining walls between
+ * cells is removed: 0 gives a maze, 1 an open arena of pillars. The border
+ * of the map is a wall, except for the tunnels, which lead to the other side
+ * of the board.
+ * </p>
+ *
+ * <p>
+ * One square is the starting square of the player. Every other free square
+ * has a ghost with the given ghost density, and otherwise a pellet with the
+ * given pellet density.
+ * </p>
+ */
+public class MapGenerator {
+
+    /**
+     * The wall character.
+     */
+    private static final char WALL = '#';
+
+    /**
+     * The empty square character.
+     */
+    private static final char GROUND = ' ';
+
+    /**
+     * The pellet character.
+     */
+    private static final char PELLET = '.';
+
+    /**
+     * The ghost character.
+     */
+    private static final char GHOST = 'G';
+
+    /**
+     * The player character.
+     */
+    private static final char PLAYER = 'P';
+
+    /**
+     * The smallest width and height of a map.
+     */
+    private static final int MIN_SIZE = 3;
+
+    /**
+     * The default width and height of a map.
+     */
+    private static final int DEFAULT_SIZE = 21;
+
+    /**
+     * The default fraction of free squares with a pellet.
+     */
+    private static final double DEFAULT_PELLET_DENSITY = 0.9;
+
+    /**
+     * The default fraction of free squares with a ghost.
+     */
+    private static final double DEFAULT_GHOST_DENSITY = 0.01;
+
+    /**
+     * The default fraction of walls between cells to remove.
+     */
+    private static final double DEFAULT_OPENNESS = 0.1;
+
+    /**
+     * The horizontal steps to the neighbouring cells.
+     */
+    private static final int[] DX = {0, 1, 0, -1};
+
+    /**
+     * The vertical steps to the neighbouring cells.
+     */
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    /**
+     * The seed of the random numbers.
+     */
+    private final long seed;
+
+    /**
+     * The width of the map.
+     */
+    private int width = DEFAULT_SIZE;
+
+    /**
+     * The height of the map.
+     */
+    private int height = DEFAULT_SIZE;
+
+    /**
+     * The fraction of free squares with a pellet.
+     */
+    private double pelletDensity = DEFAULT_PELLET_DENSITY;
+
+    /**
+     * The fraction of free squares with a ghost.
+     */
+    private double ghostDensity = DEFAULT_GHOST_DENSITY;
+
+    /**
+     * The fraction of walls between cells to remove.
+     */
+    private double openness = DEFAULT_OPENNESS;
+
+    /**
+     * The number of tunnels from the left to the right side of the map.
+     */
+    private int tunnels;
+
+    /**
+     * Creates a new generator of 21x21 maps without tunnels.
+     *
+     * @param seed
+     *            The seed of the random numbers.
+     */
+    public MapGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the size of the maps.
+     *
+     * @param mapWidth
+     *            The width of the maps, at least 3.
+     * @param mapHeight
+     *            The height of the maps, at least 3.
+     * @return The generator.
+     */
+    public MapGenerator withSize(int mapWidth, int mapHeight) {
+        assert mapWidth >= MIN_SIZE && mapHeight >= MIN_SIZE;
+        this.width = mapWidth;
+        this.height = mapHeight;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of free squares with a pellet.
+     *
+     * @param density
+     *            The fraction, between 0 and 1.
+     * @return The generator.
+     */
+    public MapGenerator withPelletDensity(double density) {
+        assert density >= 0 && density <= 1;
+        this.pelletDensity = density;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of free squares with a ghost.
+     *
+     * @param density
+     *            The fraction, between 0 and 1.
+     * @return The generator.
+     */
+    public MapGenerator withGhostDensity(double density) {
+        assert density >= 0 && density <= 1;
+        this.ghostDensity = density;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of walls between cells to remove after dead ends are
+     * opened up.
+     *
+     * @param fraction
+     *            The fraction, between 0 (a maze) and 1 (an arena).
+     * @return The generator.
+     */
+    public MapGenerator withOpenness(double fraction) {
+        assert fraction >= 0 && fraction <= 1;
+        this.openness = fraction;
+        return this;
+    }
+
+    /**
+     * Sets the number of tunnels from the left to the right side of the map.
+     * There can be at most one per row of cells; any more are ignored.
+     *
+     * @param count
+     *            The number of tunnels.
+     * @return The generator.
+     */
+    public MapGenerator withTunnels(int count) {
+        assert count >= 0;
+        this.tunnels = count;
+        return this;
+    }
+
+    /**
+     * Generates a new map.
+     *
+     * @return The squares of the map, with map[x][y] the square at position
+     *         x,y.
+     */
+    public char[][] generate() {
+        Random random = new Random(seed);
+        char[][] map = new char[width][height];
+        for (char[] column : map) {
+            Arrays.fill(column, WALL);
+        }
+        int columns = (width - 1) / 2;
+        int rows = (height - 1) / 2;
+        for (int cx = 0; cx < columns; cx++) {
+            for (int cy = 0; cy < rows; cy++) {
+                map[2 * cx + 1][2 * cy + 1] = GROUND;
+            }
+        }
+        carveMaze(map, columns, rows, random);
+        openDeadEnds(map, columns, rows, random);
+        openWalls(map, columns, rows, random);
+        digTunnels(map, columns, rows, random);
+        populate(map, random);
+        return map;
+    }
+
+    /**
+     * Connects all cells by a random spanning tree, found by a depth-first
+     * search with an explicit stack, so that huge maps do not overflow the
+     * call stack.
+     *
+     * @param map
+     *            The map to carve into.
+     * @param columns
+     *            The number of columns of cells.
+     * @param rows
+     *            The number of rows of cells.
+     * @param random
+     *            The random numbers.
+     */
+    private static void carveMaze(char[][] map, int columns, int rows, Random random) {
+        boolean[] visited = new boolean[columns * rows];
+        int[] stack = new int[columns * rows];
+        int[] neighbours = new int[4];
+        int top = 0;
+        stack[top++] = 0;
+        visited[0] = true;
+        while (top > 0) {
+            int cell = stack[top - 1];
+            int cx = cell / rows;
+            int cy = cell % rows;
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (nx >= 0 && nx < columns && ny >= 0 && ny < rows
+                    && !visited[nx * rows + ny]) {
+                    neighbours[count++] = d;
+                }
+            }
+            if (count == 0) {
+                top--;
+                continue;
+            }
+            int d = neighbours[random.nextInt(count)];
+            map[2 * cx + 1 + DX[d]][2 * cy + 1 + DY[d]] = GROUND;
+            int next = (cx + DX[d]) * rows + cy + DY[d];
+            visited[next] = true;
+            stack[top++] = next;
+        }
+    }
+
+    /**
+     * Opens every dead end, a cell with a single passage, to a random
+     * neighbouring cell it is not yet connected to.
+     *
+     * @param map
+     *            The map to carve into.
+     * @param columns
+     *            The number of columns of cells.
+     * @param rows
+     *            The number of rows of cells.
+     * @param random
+     *            The random numbers.
+     */
+    private static void openDeadEnds(char[][] map, int columns, int rows, Random random) {
+        int[] closed = new int[4];
+        for (int cx = 0; cx < columns; cx++) {
+            for (int cy = 0; cy < rows; cy++) {
+                int open = 0;
+                int count = 0;
+                for (int d = 0; d < 4; d++) {
+                    int nx = cx + DX[d];
+                    int ny = cy + DY[d];
+                    if (nx < 0 || nx >= columns || ny < 0 || ny >= rows) {
+                        continue;
+                    }
+                    if (map[2 * cx + 1 + DX[d]][2 * cy + 1 + DY[d]] == GROUND) {
+                        open++;
+                    } else {
+                        closed[count++] = d;
+                    }
+                }
+                if (open == 1 && count > 0) {
+                    int d = closed[random.nextInt(count)];
+                    map[2 * cx + 1 + DX[d]][2 * cy + 1 + DY[d]] = GROUND;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes walls between cells, each with a chance of the openness.
+     *
+     * @param map
+     *            The map to carve into.
+     * @param columns
+     *            The number of columns of cells.
+     * @param rows
+     *            The number of rows of cells.
+     * @param random
+     *            The random numbers.
+     */
+    private void openWalls(char[][] map, int columns, int rows, Random random) {
+        if (openness <= 0) {
+            return;
+        }
+        for (int x = 1; x < 2 * columns; x++) {
+            for (int y = 1; y < 2 * rows; y++) {
+                boolean betweenCells = (x % 2 == 0) != (y % 2 == 0);
+                if (betweenCells && map[x][y] == WALL && random.nextDouble() < openness) {
+                    map[x][y] = GROUND;
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens tunnels through the left and right borders of random rows of
+     * cells. The board wraps around, so a tunnel leads to the other side.
+     *
+     * @param map
+     *            The map to carve into.
+     * @param columns
+     *            The number of columns of cells.
+     * @param rows
+     *            The number of rows of cells.
+     * @param random
+     *            The random numbers.
+     */
+    private void digTunnels(char[][] map, int columns, int rows, Random random) {
+        int count = Math.min(tunnels, rows);
+        int[] order = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(rows - i);
+            int row = order[j];
+            order[j] = order[i];
+            order[i] = row;
+            int y = 2 * row + 1;
+            for (int x = 0; x < width; x++) {
+                if (x == 0 || x >= 2 * columns) {
+                    map[x][y] = GROUND;
+                }
+            }
+        }
+    }
+
+    /**
+     * Places the player on a random free square, and ghosts and pellets on
+     * the other free squares.
+     *
+     * @param map
+     *            The map to populate.
+     * @param random
+     *            The random numbers.
+     */
+    private void populate(char[][] map, Random random) {
+        int free = 0;
+        for (char[] column : map) {
+            for (char square : column) {
+                if (square == GROUND) {
+                    free++;
+                }
+            }
+        }
+        int player = random.nextInt(free);
+        int index = 0;
+        for (char[] column : map) {
+            for (int y = 0; y < column.length; y++) {
+                if (column[y] != GROUND) {
+                    continue;
+                }
+                if (index++ == player) {
+                    column[y] = PLAYER;
+                } else if (random.nextDouble() < ghostDensity) {
+                    column[y] = GHOST;
+                } else if (random.nextDouble() < pelletDensity) {
+                    column[y] = PELLET;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * What a map holds, without any squares or units: its walls and the squares
+ * of its pellets, ghosts and start positions. All squares are indexed
+ * <code>x * height + y</code>, and the squares of every kind are listed in
+ * that order, i.e. column by column, the order in which
+ * {@link MapParser#parseMap(char[][])} creates the ghosts and start
+ * positions.
+ */
+final class MapLayout {
+
+    /**
+     * The width of the map.
+     */
+    private final int width;
+
+    /**
+     * The height of the map.
+     */
+    private final int height;
+
+    /**
+     * The walls. Never modified.
+     */
+    private final BitSet walls;
+
+    /**
+     * The squares with a pellet. Never modified.
+     */
+    private final int[] pellets;
+
+    /**
+     * The squares with a ghost. Never modified.
+     */
+    private final int[] ghosts;
+
+    /**
+     * The start positions. Never modified.
+     */
+    private final int[] startPositions;
+
+    private MapLayout(int width, int height, BitSet walls, int[] pellets, int[] ghosts,
+                      int[] startPositions) {
+        this.width = width;
+        this.height = height;
+        this.walls = walls;
+        this.pellets = pellets;
+        this.ghosts = ghosts;
+        this.startPositions = startPositions;
+    }
+
+    /**
+     * Lays out a map.
+     *
+     * @param map
+     *            The text representation of the board, with map[x][y]
+     *            representing the square at position x,y.
+     * @return The layout of the map.
+     * @throws nl.tudelft.jpacman.PacmanConfigurationException
+     *             If the map holds an invalid character.
+     */
+    static MapLayout of(char[][] map) {
+        int width = map.length;
+        int height = map[0].length;
+        Builder builder = new Builder();
+        char[] row = new char[width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                row[x] = map[x][y];
+            }
+            builder.addRow(row, width);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return The number of columns of the map.
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The number of rows of the map.
+     */
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return The walls, which are not to be modified.
+     */
+    BitSet getWalls() {
+        return walls;
+    }
+
+    /**
+     * @return The squares with a pellet, which are not to be modified.
+     */
+    int[] getPellets() {
+        return pellets;
+    }
+
+    /**
+     * @return The squares with a ghost, which are not to be modified.
+     */
+    int[] getGhosts() {
+        return ghosts;
+    }
+
+    /**
+     * @return The start positions, which are not to be modified.
+     */
+    int[] getStartPositions() {
+        return startPositions;
+    }
+
+    /**
+     * Lays out a map that is read row by row, keeping only the walls and the
+     * squares with units rather than the text.
+     */
+    static final class Builder {
+
+        /**
+         * The number of squares of every kind allocated before the first is
+         * added.
+         */
+        private static final int INITIAL_SQUARES = 16;
+
+        /**
+         * The width of the map, known once the first row is added.
+         */
+        private int width;
+
+        /**
+         * The number of rows added.
+         */
+        private int height;
+
+        /**
+         * The walls, indexed by <code>y * width + x</code> while the height
+         * is not known yet.
+         */
+        private final BitSet walls = new BitSet();
+
+        /**
+         * The squares with a pellet, as <code>y * width + x</code>.
+         */
+        private int[] pellets = new int[INITIAL_SQUARES];
+
+        /**
+         * The number of squares with a pellet.
+         */
+        private int pelletCount;
+
+        /**
+         * The squares with a ghost, as <code>y * width + x</code>.
+         */
+        private int[] ghosts = new int[INITIAL_SQUARES];
+
+        /**
+         * The number of squares with a ghost.
+         */
+        private int ghostCount;
+
+        /**
+         * The start positions, as <code>y * width + x</code>.
+         */
+        private int[] starts = new int[INITIAL_SQUARES];
+
+        /**
+         * The number of start positions.
+         */
+        private int startCount;
+
+        /**
+         * Adds the next row of the map. Every row must be as wide as the
+         * first.
+         *
+         * @param row
+         *            The characters of the row.
+         * @param length
+         *            The number of characters of the row.
+         * @throws nl.tudelft.jpacman.PacmanConfigurationException
+         *             If the row holds an invalid character.
+         */
+        void addRow(char[] row, int length) {
+            if (height == 0) {
+                width = length;
+            }
+            assert length == width;
+            int offset = height * width;
+            for (int x = 0; x < width; x++) {
+                switch (MapSymbol.of(row[x], x, height)) {
+                    case WALL:
+                        walls.set(offset + x);
+                        break;
+                    case PELLET:
+                        pellets = add(pellets, pelletCount++, offset + x);
+                        break;
+                    case GHOST:
+                        ghosts = add(ghosts, ghostCount++, offset + x);
+                        break;
+                    case PLAYER:
+                        starts = add(starts, startCount++, offset + x);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            height++;
+        }
+
+        private static int[] add(int[] squares, int count, int square) {
+            int[] result = squares;
+            if (count == result.length) {
+                result = Arrays.copyOf(result, 2 * count);
+            }
+            result[count] = square;
+            return result;
+        }
+
+        /**
+         * Lays out the rows added, indexing the squares column by column.
+         * Precondition: at least one row was added.
+         *
+         * @return The layout of the map.
+         */
+        MapLayout build() {
+            assert height > 0;
+            BitSet columnWalls = new BitSet(width * height);
+            for (int i = walls.nextSetBit(0); i >= 0; i = walls.nextSetBit(i + 1)) {
+                columnWalls.set(transpose(i));
+            }
+            return new MapLayout(width, height, columnWalls, transpose(pellets, pelletCount),
+                transpose(ghosts, ghostCount), transpose(starts, startCount));
+        }
+
+        private int[] transpose(int[] squares, int count) {
+            int[] result = new int[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = transpose(squares[i]);
+            }
+            Arrays.sort(result);
+            return result;
+        }
+
+        private int transpose(int rowIndex) {
+            return rowIndex % width * height + rowIndex / width;
+        }
+    }
+}
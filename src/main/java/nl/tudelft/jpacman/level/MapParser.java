@@ -1,10 +1,12 @@
 package nl.tudelft.jpacman.level;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import nl.tudelft.jpacman.PacmanConfigurationException;
@@ -20,6 +22,16 @@ import nl.tudelft.jpacman.npc.NPC;
  */
 public class MapParser {
 
+    /**
+     * The number of bytes read from a channel at once.
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * The number of rows of squares allocated before the first row is read.
+     */
+    private static final int INITIAL_ROWS = 16;
+
     /**
      * The factory that creates the levels.
      */
@@ -107,30 +119,27 @@ public class MapParser {
      */
     protected void addSquare(Square[][] grid, List<NPC> ghosts,
                              List<Square> startPositions, int x, int y, char c) {
-        switch (c) {
-            case ' ':
-                grid[x][y] = boardCreator.createGround();
-                break;
-            case '#':
+        switch (MapSymbol.of(c, x, y)) {
+            case WALL:
                 grid[x][y] = boardCreator.createWall();
                 break;
-            case '.':
+            case PELLET:
                 Square pelletSquare = boardCreator.createGround();
                 grid[x][y] = pelletSquare;
                 levelCreator.createPellet().occupy(pelletSquare);
                 break;
-            case 'G':
+            case GHOST:
                 Square ghostSquare = makeGhostSquare(ghosts);
                 grid[x][y] = ghostSquare;
                 break;
-            case 'P':
+            case PLAYER:
                 Square playerSquare = boardCreator.createGround();
                 grid[x][y] = playerSquare;
                 startPositions.add(playerSquare);
                 break;
             default:
-                throw new PacmanConfigurationException("Invalid character at "
-                    + x + "," + y + ": " + c);
+                grid[x][y] = boardCreator.createGround();
+                break;
         }
     }
 
@@ -154,6 +163,19 @@ public class MapParser {
      * @throws PacmanConfigurationException If text lines are not properly formatted.
      */
     public Level parseMap(List<String> text) {
+        return parseMap(toGrid(text));
+    }
+
+    /**
+     * Transposes the rows of a map into a 2-dimensional character array.
+     *
+     * @param text
+     *            The rows of the map, the first element being the top row.
+     * @return The map, with map[x][y] representing the square at position
+     *         x,y.
+     * @throws PacmanConfigurationException If text lines are not properly formatted.
+     */
+    static char[][] toGrid(List<String> text) {
 
         checkMapFormat(text);
 
@@ -166,7 +188,7 @@ public class MapParser {
                 map[x][y] = text.get(y).charAt(x);
             }
         }
-        return parseMap(map);
+        return map;
     }
 
     /**
@@ -174,7 +196,7 @@ public class MapParser {
      * @param text Map to be checked
      * @throws PacmanConfigurationException if map is not OK.
      */
-    private void checkMapFormat(List<String> text) {
+    private static void checkMapFormat(List<String> text) {
         if (text == null) {
             throw new PacmanConfigurationException(
                 "Input text cannot be null.");
@@ -201,8 +223,8 @@ public class MapParser {
     }
 
     /**
-     * Parses the provided input stream as a character stream and passes it
-     * result to {@link #parseMap(List)}.
+     * Parses the provided input stream as a character stream, like
+     * {@link #parseMap(ReadableByteChannel)}.
      *
      * @param source
      *            The input stream that will be read.
@@ -211,16 +233,104 @@ public class MapParser {
      *             when the source could not be read.
      */
     public Level parseMap(InputStream source) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
-            source, "UTF-8"))) {
-            List<String> lines = new ArrayList<>();
-            while (reader.ready()) {
-                lines.add(reader.readLine());
+        try (ReadableByteChannel channel = Channels.newChannel(source)) {
+            return parseMap(channel);
+        }
+    }
+
+    /**
+     * Parses the text read from a channel into a level, row by row, the first
+     * row being the top row. Rows end with a line feed, a carriage return or
+     * both, and the characters are those of {@link #parseMap(char[][])}, in
+     * ASCII.
+     *
+     * <p>
+     * Only a single row of text is kept while the squares are created, so
+     * huge maps can be parsed without holding their text. The ghosts and
+     * start squares are created column by column, as
+     * {@link #parseMap(char[][])} does, so a map gets the same ghosts either
+     * way.
+     * </p>
+     *
+     * @param source
+     *            The channel to read until its end. It is not closed.
+     * @return The parsed level as represented by the text read.
+     * @throws IOException
+     *             when the source could not be read.
+     * @throws PacmanConfigurationException
+     *             If the text is not properly formatted.
+     */
+    public Level parseMap(ReadableByteChannel source) throws IOException {
+        GridBuilder builder = new GridBuilder();
+        readRows(source, builder::addRow);
+        return builder.build();
+    }
+
+    /**
+     * Reads text from a channel row by row, checking that there is at least
+     * one row and that all rows are equally wide and not empty.
+     *
+     * @param source
+     *            The channel to read until its end. It is not closed.
+     * @param rows
+     *            The receiver of the rows, the first row being the top row.
+     * @throws IOException
+     *             when the source could not be read.
+     * @throws PacmanConfigurationException
+     *             If the text is not properly formatted.
+     */
+    private static void readRows(ReadableByteChannel source, RowConsumer rows)
+        throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        char[] row = new char[READ_BUFFER_SIZE];
+        int length = 0;
+        int width = -1;
+        boolean afterReturn = false;
+        while (source.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                boolean lineFeed = b == '\n';
+                if (lineFeed && afterReturn) {
+                    afterReturn = false;
+                    continue;
+                }
+                afterReturn = b == '\r';
+                if (lineFeed || afterReturn) {
+                    width = checkRow(width, length);
+                    rows.addRow(row, length);
+                    length = 0;
+                } else {
+                    if (length == row.length) {
+                        row = Arrays.copyOf(row, 2 * length);
+                    }
+                    row[length++] = (char) (b & 0xFF);
+                }
             }
-            return parseMap(lines);
+            buffer.clear();
+        }
+        if (length > 0) {
+            width = checkRow(width, length);
+            rows.addRow(row, length);
+        }
+        if (width < 0) {
+            throw new PacmanConfigurationException(
+                "Input text must consist of at least 1 row.");
         }
     }
 
+    private static int checkRow(int width, int length) {
+        if (width < 0 && length == 0) {
+            throw new PacmanConfigurationException(
+                "Input text lines cannot be empty.");
+        }
+        if (width >= 0 && length != width) {
+            throw new PacmanConfigurationException(
+                "Input text lines are not of equal width.");
+        }
+        return length;
+    }
+
     /**
      * Parses the provided input stream as a character stream and passes it
      * result to {@link #parseMap(List)}.
@@ -239,4 +349,212 @@ public class MapParser {
             return parseMap(boardStream);
         }
     }
+
+    /**
+     * Parses the text representation of a board into a template, from which
+     * levels can be created without parsing the map again.
+     *
+     * <p>
+     * Templates only know the characters of {@link #parseMap(char[][])}: they
+     * do not call {@link #addSquare}, and their boards are made of plain walls
+     * and ground rather than the squares of
+     * {@link BoardFactory#createWall()} and {@link BoardFactory#createGround()}.
+     * Overrides of those are therefore ignored by the templates.
+     * </p>
+     *
+     * @param map
+     *            The text representation of the board, with the characters
+     *            of {@link #parseMap(char[][])} and map[x][y] representing the
+     *            square at position x,y.
+     * @return The template of the levels represented by this text.
+     * @throws PacmanConfigurationException If the map holds an invalid character.
+     */
+    public LevelTemplate parseTemplate(char[][] map) {
+        return createTemplate(MapLayout.of(map));
+    }
+
+    /**
+     * Parses the text read from a channel into a template, row by row, like
+     * {@link #parseMap(ReadableByteChannel)}. Only the walls and the squares
+     * with units are kept while reading, not the text.
+     *
+     * @param source
+     *            The channel to read until its end. It is not closed.
+     * @return The template of the levels represented by the text read.
+     * @throws IOException
+     *             when the source could not be read.
+     * @throws PacmanConfigurationException
+     *             If the text is not properly formatted.
+     */
+    public LevelTemplate parseTemplate(ReadableByteChannel source) throws IOException {
+        MapLayout.Builder layout = new MapLayout.Builder();
+        readRows(source, layout::addRow);
+        return createTemplate(layout.build());
+    }
+
+    /**
+     * Parses the provided input stream into a template, like
+     * {@link #parseTemplate(ReadableByteChannel)}.
+     *
+     * @param source
+     *            The input stream that will be read.
+     * @return The template of the levels represented by the text on the input
+     *         stream.
+     * @throws IOException
+     *             when the source could not be read.
+     */
+    public LevelTemplate parseTemplate(InputStream source) throws IOException {
+        try (ReadableByteChannel channel = Channels.newChannel(source)) {
+            return parseTemplate(channel);
+        }
+    }
+
+    /**
+     * Parses a map resource into a template, from which levels can be created
+     * without reading and parsing the resource again.
+     *
+     * @param mapName
+     *            Name of a resource that will be read.
+     * @return The template of the levels represented by the resource.
+     * @throws IOException
+     *             when the resource could not be read.
+     * @throws PacmanConfigurationException If the map is not properly formatted.
+     */
+    public LevelTemplate parseTemplate(String mapName) throws IOException {
+        try (InputStream boardStream = MapParser.class.getResourceAsStream(mapName)) {
+            if (boardStream == null) {
+                throw new PacmanConfigurationException("Could not get resource for: " + mapName);
+            }
+            return parseTemplate(boardStream);
+        }
+    }
+
+    private LevelTemplate createTemplate(MapLayout layout) {
+        return new LevelTemplate(levelCreator, boardCreator,
+            boardCreator.createTemplate(layout.getWidth(), layout.getHeight(),
+                layout.getWalls()),
+            layout.getPellets(), layout.getGhosts(), layout.getStartPositions());
+    }
+
+    /**
+     * Receives the rows of a map as they are read.
+     */
+    private interface RowConsumer {
+
+        /**
+         * Receives the next row.
+         *
+         * @param row
+         *            The characters of the row, only valid during this call.
+         * @param length
+         *            The number of characters of the row.
+         */
+        void addRow(char[] row, int length);
+    }
+
+    /**
+     * Creates the squares of a map that is read row by row.
+     */
+    private final class GridBuilder {
+
+        /**
+         * The squares created so far, with grid[x][y] the square at x,y. The
+         * columns grow as rows are added.
+         */
+        private Square[][] grid = new Square[0][0];
+
+        /**
+         * The width of the map, known once the first row is added.
+         */
+        private int width;
+
+        /**
+         * The number of rows added.
+         */
+        private int height;
+
+        /**
+         * The squares with a ghost or a start position, which are created
+         * last: x in the upper 32 bits, y shifted left by one, and 1 in the
+         * lowest bit for a start position.
+         */
+        private long[] deferred = new long[INITIAL_ROWS];
+
+        /**
+         * The number of deferred squares.
+         */
+        private int deferredCount;
+
+        /**
+         * The ghosts created.
+         */
+        private final List<NPC> ghosts = new ArrayList<>();
+
+        /**
+         * The start positions created.
+         */
+        private final List<Square> startPositions = new ArrayList<>();
+
+        /**
+         * Creates the squares of the next row. Every row must be as wide as
+         * the first.
+         *
+         * @param row
+         *            The characters of the row.
+         * @param length
+         *            The number of characters of the row.
+         */
+        void addRow(char[] row, int length) {
+            if (height == 0) {
+                width = length;
+                grid = new Square[width][INITIAL_ROWS];
+            }
+            assert length == width;
+            if (height == grid[0].length) {
+                for (int x = 0; x < width; x++) {
+                    grid[x] = Arrays.copyOf(grid[x], 2 * height);
+                }
+            }
+            for (int x = 0; x < width; x++) {
+                char c = row[x];
+                if (c == 'G' || c == 'P') {
+                    defer(((long) x << 32) | ((long) height << 1) | (c == 'P' ? 1L : 0L));
+                } else {
+                    addSquare(grid, ghosts, startPositions, x, height, c);
+                }
+            }
+            height++;
+        }
+
+        private void defer(long square) {
+            if (deferredCount == deferred.length) {
+                deferred = Arrays.copyOf(deferred, 2 * deferredCount);
+            }
+            deferred[deferredCount++] = square;
+        }
+
+        /**
+         * Creates the deferred squares and the level. Precondition: at least
+         * one row was added.
+         *
+         * @return The level of all rows added.
+         */
+        Level build() {
+            assert height > 0;
+            Arrays.sort(deferred, 0, deferredCount);
+            for (int i = 0; i < deferredCount; i++) {
+                long square = deferred[i];
+                char c = (square & 1L) == 0 ? 'G' : 'P';
+                addSquare(grid, ghosts, startPositions, (int) (square >>> 32),
+                    (int) (square & 0xFFFFFFFFL) >>> 1, c);
+            }
+            for (int x = 0; x < width; x++) {
+                if (grid[x].length != height) {
+                    grid[x] = Arrays.copyOf(grid[x], height);
+                }
+            }
+            Board board = boardCreator.createBoard(grid);
+            return levelCreator.createLevel(board, ghosts, startPositions);
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package nl.tudelft.jpacman.level;
+
+import nl.tudelft.jpacman.PacmanConfigurationException;
+
+/**
+ * The kinds of squares of a text map, each written as a single character.
+ */
+enum MapSymbol {
+
+    /**
+     * An empty square, written as ' ' (space).
+     */
+    GROUND,
+
+    /**
+     * A wall, written as '#' (bracket).
+     */
+    WALL,
+
+    /**
+     * A square with a pellet, written as '.' (period).
+     */
+    PELLET,
+
+    /**
+     * A square with a ghost, written as 'G' (capital G).
+     */
+    GHOST,
+
+    /**
+     * A starting square for players, written as 'P' (capital P).
+     */
+    PLAYER;
+
+    /**
+     * Classifies a character of a map.
+     *
+     * @param c
+     *            The character of the square.
+     * @param x
+     *            The x coordinate of the square, to report.
+     * @param y
+     *            The y coordinate of the square, to report.
+     * @return The kind of square the character stands for.
+     * @throws PacmanConfigurationException
+     *             If the character is not one of a map.
+     */
+    static MapSymbol of(char c, int x, int y) {
+        switch (c) {
+            case ' ':
+                return GROUND;
+            case '#':
+                return WALL;
+            case '.':
+                return PELLET;
+            case 'G':
+                return GHOST;
+            case 'P':
+                return PLAYER;
+            default:
+                throw new PacmanConfigurationException("Invalid character at "
+                    + x + "," + y + ": " + c);
+        }
+    }
+}
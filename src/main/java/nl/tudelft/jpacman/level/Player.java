@@ -73,6 +73,7 @@ public class Player extends Unit {
             deathSprite.restart();
         }
         this.alive = isAlive;
+        appearanceChanged();
     }
 
     /**
@@ -0,0 +1,286 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import nl.tudelft.jpacman.npc.NPC;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link LevelScheduler} that moves all its NPCs from a single timer wheel.
+ * Time advances in discrete ticks; every NPC is due after its own interval,
+ * rounded up to whole ticks. NPCs that are due on the same tick are moved in
+ * the order in which they were scheduled, so a run only depends on the
+ * intervals of the NPCs and not on the whims of the thread scheduler.
+ *
+ * <p>
+ * The wheel can be driven by its own (single, daemon) clock thread through
+ * {@link #start()}, or manually by calling {@link #tick()}.
+ * </p>
+ */
+public class TickScheduler implements LevelScheduler {
+
+    /**
+     * The default duration of a single tick in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 10L;
+
+    /**
+     * The logger reporting moves that failed.
+     */
+    private static final Logger LOGGER = Logger.getLogger(TickScheduler.class.getName());
+
+    /**
+     * The number of slots on the wheel. Must be a power of two.
+     */
+    private static final int WHEEL_SIZE = 256;
+
+    /**
+     * The scheduler shared by all levels that don't specify their own.
+     */
+    private static @MonotonicNonNull TickScheduler sharedScheduler;
+
+    /**
+     * The duration of a single tick in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The slots of the wheel, each holding the tasks that are due on a tick
+     * that maps onto that slot.
+     */
+    private final List<List<Entry>> wheel;
+
+    /**
+     * Guards the wheel and the current tick.
+     */
+    private final Object wheelLock = new Object();
+
+    /**
+     * The tasks that are executed during the current tick. Only used by the
+     * ticking thread, kept around to avoid allocating a list on every tick.
+     */
+    private final List<Entry> dueEntries = new ArrayList<>();
+
+    /**
+     * The number of ticks that have passed.
+     */
+    private long currentTick;
+
+    /**
+     * The thread that advances the wheel, if it has been started.
+     */
+    private @Nullable ScheduledExecutorService clock;
+
+    /**
+     * Creates a new scheduler with ticks of {@link #DEFAULT_TICK_MILLIS}.
+     */
+    public TickScheduler() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param tickMillis
+     *            The duration of a single tick in milliseconds.
+     */
+    public TickScheduler(long tickMillis) {
+        assert tickMillis > 0;
+        this.tickMillis = tickMillis;
+        this.wheel = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.currentTick = 0L;
+    }
+
+    /**
+     * Returns the scheduler that is shared by all levels that are not given
+     * a scheduler of their own. Its clock is started on first use.
+     *
+     * @return The shared scheduler.
+     */
+    public static synchronized TickScheduler shared() {
+        if (sharedScheduler == null) {
+            sharedScheduler = new TickScheduler();
+            sharedScheduler.start();
+        }
+        return sharedScheduler;
+    }
+
+    /**
+     * @return The duration of a single tick in milliseconds.
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Starts the clock thread that advances this wheel every tick. Has no
+     * effect if the clock is already running.
+     */
+    public void start() {
+        synchronized (wheelLock) {
+            if (clock != null) {
+                return;
+            }
+            ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "jpacman-tick-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            service.scheduleAtFixedRate(this::tick, tickMillis, tickMillis,
+                TimeUnit.MILLISECONDS);
+            clock = service;
+        }
+    }
+
+    /**
+     * Stops the clock thread. Scheduled tasks are kept and will continue
+     * when the clock is started again.
+     */
+    public void stop() {
+        synchronized (wheelLock) {
+            if (clock != null) {
+                clock.shutdownNow();
+                clock = null;
+            }
+        }
+    }
+
+    @Override
+    public Task schedule(NPC npc, Runnable move) {
+        assert npc != null;
+        assert move != null;
+
+        Entry entry = new Entry(npc, move);
+        enqueue(entry, npc.getInterval() / 2);
+        return entry;
+    }
+
+    /**
+     * Puts a task on the wheel.
+     *
+     * @param entry
+     *            The task to put on the wheel.
+     * @param delayMillis
+     *            The delay after which the task is due.
+     */
+    private void enqueue(Entry entry, long delayMillis) {
+        long ticks = Math.max(1L, (delayMillis + tickMillis - 1) / tickMillis);
+        synchronized (wheelLock) {
+            entry.due = currentTick + ticks;
+            wheel.get(slot(entry.due)).add(entry);
+        }
+    }
+
+    /**
+     * Advances the wheel by a single tick and moves all NPCs that are due.
+     * Must not be called concurrently.
+     */
+    public void tick() {
+        synchronized (wheelLock) {
+            currentTick++;
+            Iterator<Entry> slot = wheel.get(slot(currentTick)).iterator();
+            while (slot.hasNext()) {
+                Entry entry = slot.next();
+                if (entry.cancelled) {
+                    slot.remove();
+                } else if (entry.due <= currentTick) {
+                    slot.remove();
+                    dueEntries.add(entry);
+                }
+            }
+        }
+        for (Entry entry : dueEntries) {
+            entry.execute();
+        }
+        dueEntries.clear();
+    }
+
+    /**
+     * @return The number of ticks that have passed.
+     */
+    public long getCurrentTick() {
+        synchronized (wheelLock) {
+            return currentTick;
+        }
+    }
+
+    private static int slot(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    /**
+     * The repeated movement of a single NPC on the wheel.
+     */
+    private final class Entry implements Task {
+
+        /**
+         * The NPC to move.
+         */
+        private final NPC npc;
+
+        /**
+         * The task making a single move.
+         */
+        private final Runnable move;
+
+        /**
+         * The tick at which this task is due, guarded by the wheel lock.
+         */
+        private long due;
+
+        /**
+         * <code>true</code> iff this task has been cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new task.
+         *
+         * @param npc
+         *            The NPC to move.
+         * @param move
+         *            The task making a single move.
+         */
+        Entry(NPC npc, Runnable move) {
+            this.npc = npc;
+            this.move = move;
+        }
+
+        /**
+         * Moves the NPC and puts this task back on the wheel. A task that
+         * fails is dropped and logged, so it can't take down the other
+         * tasks.
+         */
+        private void execute() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                move.run();
+            } catch (RuntimeException e) {
+                cancelled = true;
+                LOGGER.log(java.util.logging.Level.WARNING,
+                    "Stopped moving " + npc + " after a failed move.", e);
+                return;
+            }
+            if (!cancelled) {
+                enqueue(this, npc.getInterval());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
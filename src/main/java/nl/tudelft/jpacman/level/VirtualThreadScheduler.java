@@ -0,0 +1,179 @@
+package nl.tudelft.jpacman.level;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Logger;
+
+import nl.tudelft.jpacman.npc.NPC;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link LevelScheduler} that runs the move loop of every NPC on a thread of
+ * its own, pacing the moves by sleeping for the NPC's interval.
+ *
+ * <p>
+ * On a Java runtime that supports virtual threads (Java 21 and later) the
+ * loops run on virtual threads, so a single JVM can host a very large number
+ * of levels without paying for a platform thread per NPC. Since this project
+ * is compiled for Java 8, the virtual thread factory is looked up
+ * reflectively. On older runtimes the scheduler falls back to daemon platform
+ * threads; see {@link #isVirtual()}.
+ * </p>
+ *
+ * <p>
+ * A move that throws ends the loop of its NPC only: the exception is logged
+ * and the other NPCs keep moving.
+ * </p>
+ *
+ * <p>
+ * Use it by passing it to the {@link LevelFactory}, which hands it to every
+ * level it creates.
+ * </p>
+ */
+public class VirtualThreadScheduler implements LevelScheduler {
+
+    /**
+     * The logger reporting moves that failed.
+     */
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreadScheduler.class.getName());
+
+    /**
+     * The factory creating the threads that run the move loops.
+     */
+    private final ThreadFactory threadFactory;
+
+    /**
+     * <code>true</code> iff the threads are virtual threads.
+     */
+    private final boolean virtual;
+
+    /**
+     * Creates a new scheduler that runs the move loops on virtual threads if
+     * the runtime supports them, or on daemon platform threads otherwise.
+     */
+    public VirtualThreadScheduler() {
+        ThreadFactory factory = virtualThreadFactory();
+        this.virtual = factory != null;
+        this.threadFactory = factory == null ? VirtualThreadScheduler::daemonThread : factory;
+    }
+
+    /**
+     * Creates a new scheduler that runs the move loops on threads created by
+     * the given factory.
+     *
+     * @param factory
+     *            The factory creating the threads for the move loops.
+     */
+    public VirtualThreadScheduler(ThreadFactory factory) {
+        this.virtual = false;
+        this.threadFactory = factory;
+    }
+
+    /**
+     * @return <code>true</code> iff the move loops run on virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public Task schedule(NPC npc, Runnable move) {
+        assert npc != null;
+        assert move != null;
+
+        MoveLoop loop = new MoveLoop(npc, move);
+        Thread thread = threadFactory.newThread(loop);
+        loop.thread = thread;
+        thread.start();
+        return loop;
+    }
+
+    /**
+     * Looks up the factory for virtual threads, which is only available on
+     * Java 21 and later.
+     *
+     * @return The factory, or <code>null</code> if the runtime does not
+     *         support virtual threads.
+     */
+    private static @Nullable ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Object factory = Class.forName("java.lang.Thread$Builder")
+                .getMethod("factory").invoke(builder);
+            return (ThreadFactory) factory;
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "jpacman-npc");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * The move loop of a single NPC.
+     */
+    private static final class MoveLoop implements Task, Runnable {
+
+        /**
+         * The NPC to move.
+         */
+        private final NPC npc;
+
+        /**
+         * The task making a single move.
+         */
+        private final Runnable move;
+
+        /**
+         * The thread running this loop.
+         */
+        private volatile @Nullable Thread thread;
+
+        /**
+         * <code>true</code> iff this loop has been cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new move loop.
+         *
+         * @param npc
+         *            The NPC to move.
+         * @param move
+         *            The task making a single move.
+         */
+        MoveLoop(NPC npc, Runnable move) {
+            this.npc = npc;
+            this.move = move;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Thread.sleep(npc.getInterval() / 2);
+                while (!cancelled) {
+                    move.run();
+                    Thread.sleep(npc.getInterval());
+                }
+            } catch (InterruptedException e) {
+                // cancelled while sleeping, the loop ends here.
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                cancelled = true;
+                LOGGER.log(java.util.logging.Level.WARNING,
+                    "Stopped moving " + npc + " after a failed move.", e);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Thread running = thread;
+            if (running != null && running != Thread.currentThread()) {
+                running.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link PathFinder} using A*: squares are searched in order of the length
+ * of the path to them plus the estimated distance from them to the
+ * destination. The estimate is the Manhattan distance, taking into account
+ * that boards wrap around at their borders, so the paths found are shortest.
+ *
+ * <p>
+ * Squares that are not on a (single) board are searched by
+ * {@link Navigation#shortestPath(Square, Square, Unit)} instead.
+ * </p>
+ */
+public final class AStarSearch implements PathFinder {
+
+    /**
+     * The directions, cached to avoid copying {@link Direction#values()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The access mask with all directions accessible.
+     */
+    private static final int ALL_DIRECTIONS = (1 << DIRECTIONS.length) - 1;
+
+    @Override
+    public @Nullable List<Direction> shortestPath(Square from, Square to,
+                                                  @Nullable Unit traveller) {
+        if (from.equals(to)) {
+            return new ArrayList<>();
+        }
+        if (!Navigation.onSameBoard(from, to)) {
+            return Navigation.shortestPath(from, to, traveller);
+        }
+
+        try (BestFirstBuffers search = BestFirstBuffers.forBoard(from.getBoard())) {
+            int root = search.indexOf(from);
+            int target = search.indexOf(to);
+            search.start(root, search.estimate(root, target));
+            for (int current = search.next(); current >= 0; current = search.next()) {
+                if (current == target) {
+                    return search.pathTo(root, target);
+                }
+                Square square = search.squareAt(current);
+                int accessible = traveller == null
+                    ? ALL_DIRECTIONS : square.getAccessMask(traveller);
+                int cost = search.costOf(current) + 1;
+                for (Direction direction : DIRECTIONS) {
+                    if ((accessible & (1 << direction.ordinal())) != 0) {
+                        int next = search.indexOf(square.getSquareAt(direction));
+                        search.reach(next, cost, current, direction, search.estimate(next, target));
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Reusable scratch space for best first searches (A* and the like) over the
+ * squares of a {@link Board}. Squares are identified by their dense index
+ * <code>x * height + y</code>, and the open list is a binary heap of indices
+ * ordered by their estimated total cost.
+ *
+ * <p>
+ * The buffers are borrowed from a {@link BufferPool} shared by all threads
+ * and only grow. Instead of being cleared for every search, each square is
+ * stamped with the search it was last seen in, so a search on a huge board
+ * only pays for the squares it touches.
+ * </p>
+ */
+final class BestFirstBuffers implements AutoCloseable {
+
+    /**
+     * The buffers not used by any search.
+     */
+    private static final BufferPool<BestFirstBuffers> POOL =
+        new BufferPool<>(BestFirstBuffers::new);
+
+    /**
+     * The directions, cached to avoid copying {@link Direction#values()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The initial capacity of the heap.
+     */
+    private static final int INITIAL_HEAP = 64;
+
+    /**
+     * The number of bits of a heap entry holding the index of a square.
+     */
+    private static final int INDEX_BITS = 32;
+
+    /**
+     * The result of a vertical jump that has not been made in this search.
+     */
+    static final int UNKNOWN_JUMP = -1;
+
+    /**
+     * For every square seen, the cost of the best path found to it.
+     */
+    private int[] costs = new int[0];
+
+    /**
+     * For every square seen, the index of the square it was reached from.
+     */
+    private int[] parents = new int[0];
+
+    /**
+     * For every square seen, the ordinal of the direction it was reached by.
+     */
+    private byte[] directions = new byte[0];
+
+    /**
+     * For every square, the stamp of the last search it was seen in:
+     * <code>stamp</code> if it is open, <code>stamp + 1</code> if it is
+     * closed.
+     */
+    private int[] marks = new int[0];
+
+    /**
+     * The stamp of the current search.
+     */
+    private int stamp;
+
+    /**
+     * For every square, the results of the vertical jumps from it: north at
+     * <code>2 * index</code>, south at <code>2 * index + 1</code>. Only
+     * allocated once a search jumps.
+     */
+    private int[] jumps = new int[0];
+
+    /**
+     * For every entry of {@link #jumps}, the stamp of the search it was set
+     * in.
+     */
+    private int[] jumpMarks = new int[0];
+
+    /**
+     * The open list: a binary heap of entries holding the estimated total
+     * cost in the high bits and the index of the square in the low bits.
+     */
+    private long[] heap = new long[INITIAL_HEAP];
+
+    /**
+     * The number of entries in the heap.
+     */
+    private int heapSize;
+
+    /**
+     * The board being searched.
+     */
+    private @Nullable Board board;
+
+    /**
+     * The width of the board being searched.
+     */
+    private int width;
+
+    /**
+     * The height of the board being searched.
+     */
+    private int height;
+
+    private BestFirstBuffers() {
+    }
+
+    /**
+     * Borrows (cleared) buffers from the pool, sized for the board. They are
+     * to be {@link #close() closed} when the search is done.
+     *
+     * @param board
+     *            The board to search.
+     * @return Buffers used by no other search.
+     */
+    static BestFirstBuffers forBoard(Board board) {
+        BestFirstBuffers buffers = POOL.acquire();
+        buffers.reset(board);
+        return buffers;
+    }
+
+    /**
+     * Returns the buffers to the pool, forgetting the board searched.
+     */
+    @Override
+    public void close() {
+        board = null;
+        POOL.release(this);
+    }
+
+    private void reset(Board newBoard) {
+        board = newBoard;
+        width = newBoard.getWidth();
+        height = newBoard.getHeight();
+        int size = width * height;
+        if (marks.length < size) {
+            costs = new int[size];
+            parents = new int[size];
+            directions = new byte[size];
+            marks = new int[size];
+            jumps = new int[0];
+            jumpMarks = new int[0];
+            stamp = 0;
+        }
+        stamp += 2;
+        if (stamp < 0) {
+            Arrays.fill(marks, 0);
+            Arrays.fill(jumpMarks, 0);
+            stamp = 2;
+        }
+        heapSize = 0;
+    }
+
+    /**
+     * @param square
+     *            A square on the board being searched.
+     * @return The dense index of the square.
+     */
+    int indexOf(Square square) {
+        assert square.isOnBoard() && square.getBoard() == board;
+        return square.getX() * height + square.getY();
+    }
+
+    /**
+     * @param index
+     *            The dense index of a square.
+     * @return The square with the given index.
+     */
+    Square squareAt(int index) {
+        Board searched = board;
+        assert searched != null;
+        return searched.squareAt(index / height, index % height);
+    }
+
+    /**
+     * @return The width of the board being searched.
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The height of the board being searched.
+     */
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the square reached by moving in a straight line.
+     *
+     * @param index
+     *            The index of the square to start from.
+     * @param direction
+     *            The direction to move in.
+     * @param steps
+     *            The number of moves to make, which may be negative.
+     * @return The index of the square reached, wrapping around at the
+     *         borders of the board.
+     */
+    int move(int index, Direction direction, int steps) {
+        int x = Math.floorMod(index / height + direction.getDeltaX() * steps, width);
+        int y = Math.floorMod(index % height + direction.getDeltaY() * steps, height);
+        return x * height + y;
+    }
+
+    /**
+     * Estimates the number of moves between two squares: the Manhattan
+     * distance, taking into account that the board wraps around at its
+     * borders.
+     *
+     * @param from
+     *            The index of the first square.
+     * @param to
+     *            The index of the second square.
+     * @return A lower bound for the number of moves between the squares.
+     */
+    int estimate(int from, int to) {
+        int dx = Math.abs(from / height - to / height);
+        int dy = Math.abs(from % height - to % height);
+        return Math.min(dx, width - dx) + Math.min(dy, height - dy);
+    }
+
+    /**
+     * Opens the root of the search.
+     *
+     * @param index
+     *            The index of the root square.
+     * @param estimate
+     *            The estimated cost from the root to the destination.
+     */
+    void start(int index, int estimate) {
+        marks[index] = stamp;
+        costs[index] = 0;
+        parents[index] = index;
+        push(estimate, index);
+    }
+
+    /**
+     * Reaches a square by a (possibly) cheaper path, opening it if it is
+     * not closed yet and the path is cheaper than any found before.
+     *
+     * @param index
+     *            The index of the square reached.
+     * @param cost
+     *            The cost of the path to the square.
+     * @param parent
+     *            The index of the square it was reached from.
+     * @param direction
+     *            The direction it was reached by.
+     * @param estimate
+     *            The estimated cost from the square to the destination.
+     */
+    void reach(int index, int cost, int parent, Direction direction, int estimate) {
+        int mark = marks[index];
+        if (mark == stamp + 1 || mark == stamp && costs[index] <= cost) {
+            return;
+        }
+        marks[index] = stamp;
+        costs[index] = cost;
+        parents[index] = parent;
+        directions[index] = (byte) direction.ordinal();
+        push(cost + estimate, index);
+    }
+
+    /**
+     * Closes and returns the open square with the lowest estimated total
+     * cost.
+     *
+     * @return The index of the square, or -1 if no square is open.
+     */
+    int next() {
+        while (heapSize > 0) {
+            int index = (int) pop();
+            if (marks[index] == stamp) {
+                marks[index] = stamp + 1;
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param index
+     *            The index of a square seen in this search.
+     * @return The cost of the best path found to the square.
+     */
+    int costOf(int index) {
+        return costs[index];
+    }
+
+    /**
+     * @param index
+     *            The index of a square seen in this search, other than the
+     *            root.
+     * @return The direction the square was reached by.
+     */
+    Direction directionOf(int index) {
+        return DIRECTIONS[directions[index]];
+    }
+
+    /**
+     * Looks up the result of a vertical jump made earlier in this search.
+     *
+     * @param index
+     *            The index of the square jumped from.
+     * @param direction
+     *            The vertical direction jumped in.
+     * @return The number of moves the jump made, 0 if it found nothing, or
+     *         {@link #UNKNOWN_JUMP} if it was not made yet.
+     */
+    int jumpOf(int index, Direction direction) {
+        int slot = jumpSlot(index, direction);
+        if (slot >= jumpMarks.length || jumpMarks[slot] != stamp) {
+            return UNKNOWN_JUMP;
+        }
+        return jumps[slot];
+    }
+
+    /**
+     * Records the result of a vertical jump for the rest of this search.
+     *
+     * @param index
+     *            The index of the square jumped from.
+     * @param direction
+     *            The vertical direction jumped in.
+     * @param steps
+     *            The number of moves the jump made, or 0 if it found
+     *            nothing.
+     */
+    void setJump(int index, Direction direction, int steps) {
+        if (jumpMarks.length < 2 * marks.length) {
+            jumps = new int[2 * marks.length];
+            jumpMarks = new int[2 * marks.length];
+        }
+        int slot = jumpSlot(index, direction);
+        jumps[slot] = steps;
+        jumpMarks[slot] = stamp;
+    }
+
+    private static int jumpSlot(int index, Direction direction) {
+        assert direction.getDeltaX() == 0;
+        return 2 * index + (direction.getDeltaY() < 0 ? 0 : 1);
+    }
+
+    /**
+     * Reconstructs the path from the root of the search to a closed square.
+     * Every square is assumed to be reached from its parent by moving in a
+     * straight line.
+     *
+     * @param root
+     *            The index of the root of the search.
+     * @param index
+     *            The index of the closed square.
+     * @return The directions to follow from the root to the square.
+     */
+    List<Direction> pathTo(int root, int index) {
+        List<Direction> path = new ArrayList<>();
+        int current = index;
+        while (current != root) {
+            Direction direction = DIRECTIONS[directions[current]];
+            int parent = parents[current];
+            while (current != parent) {
+                path.add(direction);
+                current = move(current, direction, -1);
+            }
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void push(int priority, int index) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        long entry = ((long) priority << INDEX_BITS) | index;
+        int position = heapSize++;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = entry;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int position = 0;
+        int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = last;
+        return top & ((1L << INDEX_BITS) - 1);
+    }
+}
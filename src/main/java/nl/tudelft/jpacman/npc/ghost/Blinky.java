@@ -6,6 +6,7 @@ import java.util.Map;
 import nl.tudelft.jpacman.board.Direction;
 import nl.tudelft.jpacman.board.Square;
 import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.DistanceField;
 import nl.tudelft.jpacman.level.Player;
 import nl.tudelft.jpacman.sprite.Sprite;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -83,6 +84,12 @@ public class Blinky extends Ghost {
 
         // TODO Blinky should patrol his corner every once in a while
         // TODO Implement his actual behaviour instead of simply chasing.
+        DistanceField distances = getPlayerDistances();
+        if (distances != null) {
+            Direction direction = distances.directionToNearestPlayer(getSquare());
+            return direction == null ? randomMove() : direction;
+        }
+
         Unit nearest = Navigation.findNearest(Player.class, getSquare());
         if (nearest == null) {
             return randomMove();
@@ -90,7 +97,7 @@ public class Blinky extends Ghost {
         assert nearest.hasSquare();
         Square target = nearest.getSquare();
 
-        List<Direction> path = Navigation.shortestPath(getSquare(), target, this);
+        List<Direction> path = getPathFinder().shortestPath(getSquare(), target, this);
         if (path != null && !path.isEmpty()) {
             return path.get(0);
         }
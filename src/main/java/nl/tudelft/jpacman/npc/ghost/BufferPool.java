@@ -0,0 +1,63 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of search buffers shared by all threads. A search borrows
+ * buffers for as long as it runs and returns them when it is done. Only a
+ * bounded number of idle buffers is kept, so the memory held by the pool
+ * does not grow with the number of threads that ever searched, which may be
+ * a virtual thread per ghost.
+ *
+ * @param <T>
+ *            The type of buffers.
+ */
+final class BufferPool<T> {
+
+    /**
+     * The buffers not borrowed by any search.
+     */
+    private final ArrayBlockingQueue<T> idle;
+
+    /**
+     * Creates new buffers when none are idle.
+     */
+    private final Supplier<T> factory;
+
+    /**
+     * Creates a new pool keeping at most as many idle buffers as there are
+     * processors, since no more searches can run at once.
+     *
+     * @param factory
+     *            Creates new buffers when none are idle.
+     */
+    BufferPool(Supplier<T> factory) {
+        this.idle = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+        this.factory = factory;
+    }
+
+    /**
+     * Borrows idle buffers, or new ones if there are none.
+     *
+     * @return Buffers no other search uses until they are released.
+     */
+    T acquire() {
+        T buffers = idle.poll();
+        if (buffers == null) {
+            return factory.get();
+        }
+        return buffers;
+    }
+
+    /**
+     * Returns borrowed buffers to the pool, or drops them if the pool holds
+     * enough idle buffers.
+     *
+     * @param buffers
+     *            The buffers, no longer used by the search that borrowed them.
+     */
+    void release(T buffers) {
+        idle.offer(buffers);
+    }
+}
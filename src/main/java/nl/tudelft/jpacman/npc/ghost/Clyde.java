@@ -1,12 +1,12 @@
 package nl.tudelft.jpacman.npc.ghost;
 
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 import nl.tudelft.jpacman.board.Direction;
 import nl.tudelft.jpacman.board.Square;
 import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.DistanceField;
 import nl.tudelft.jpacman.level.Player;
 import nl.tudelft.jpacman.sprite.Sprite;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -58,17 +58,6 @@ public class Clyde extends Ghost {
      */
     private static final int MOVE_INTERVAL = 250;
 
-    /**
-     * A map of opposite directions.
-     */
-    private static final Map<Direction, Direction> OPPOSITES = new EnumMap<>(Direction.class);
-    static {
-        OPPOSITES.put(Direction.NORTH, Direction.SOUTH);
-        OPPOSITES.put(Direction.SOUTH, Direction.NORTH);
-        OPPOSITES.put(Direction.WEST, Direction.EAST);
-        OPPOSITES.put(Direction.EAST, Direction.WEST);
-    }
-
     /**
      * Creates a new "Clyde", a.k.a. "Pokey".
      *
@@ -100,6 +89,18 @@ public class Clyde extends Ghost {
     public @Nullable Direction nextMove() {
         assert hasSquare();
 
+        DistanceField distances = getPlayerDistances();
+        if (distances != null) {
+            Direction direction = distances.directionToNearestPlayer(getSquare());
+            if (direction == null) {
+                return randomMove();
+            }
+            if (distances.distanceToNearestPlayer(getSquare()) <= SHYNESS) {
+                return direction.getOpposite();
+            }
+            return direction;
+        }
+
         Unit nearest = Navigation.findNearest(Player.class, getSquare());
         if (nearest == null) {
             return randomMove();
@@ -107,11 +108,11 @@ public class Clyde extends Ghost {
         assert nearest.hasSquare();
         Square target = nearest.getSquare();
 
-        List<Direction> path = Navigation.shortestPath(getSquare(), target, this);
+        List<Direction> path = getPathFinder().shortestPath(getSquare(), target, this);
         if (path != null && !path.isEmpty()) {
             Direction direction = path.get(0);
             if (path.size() <= SHYNESS) {
-                return OPPOSITES.get(direction);
+                return direction.getOpposite();
             }
             return direction;
         }
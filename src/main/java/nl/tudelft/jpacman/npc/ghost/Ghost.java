@@ -1,12 +1,13 @@
 package nl.tudelft.jpacman.npc.ghost;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
 import nl.tudelft.jpacman.board.Direction;
 import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.DistanceField;
+import nl.tudelft.jpacman.level.Player;
 import nl.tudelft.jpacman.npc.NPC;
 import nl.tudelft.jpacman.sprite.Sprite;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -33,6 +34,23 @@ public abstract class Ghost extends NPC {
      */
     private final int intervalVariation;
 
+    /**
+     * The distances to the players shared by all ghosts of the level, or
+     * <code>null</code> if this ghost has to search for the players itself.
+     */
+    private @Nullable DistanceField playerDistances;
+
+    /**
+     * The engine this ghost plans its paths with, or <code>null</code> if
+     * none was chosen.
+     */
+    private @Nullable PathFinder pathFinder;
+
+    /**
+     * The source of the random intervals and moves of this ghost.
+     */
+    private Random random = new Random();
+
     /**
      * Creates a new ghost.
      *
@@ -49,6 +67,82 @@ public abstract class Ghost extends NPC {
         this.moveInterval = moveInterval;
     }
 
+    /**
+     * Shares the distances to the players with this ghost, so that it no
+     * longer needs to search for the players itself.
+     *
+     * @param distances
+     *            The distances to the players on the board of this ghost.
+     */
+    public void setPlayerDistances(DistanceField distances) {
+        this.playerDistances = distances;
+    }
+
+    /**
+     * Returns the distances to the players shared with this ghost. A ghost
+     * that was given its own {@link #setPathFinder(PathFinder) path finder}
+     * plans with that engine instead, so it gets no shared distances.
+     *
+     * @return The distances to the players shared with this ghost, or
+     *         <code>null</code> if there are none or this ghost has its own
+     *         path finder.
+     */
+    protected @Nullable DistanceField getPlayerDistances() {
+        if (pathFinder != null) {
+            return null;
+        }
+        return playerDistances;
+    }
+
+    /**
+     * Sets the source of the random intervals and moves of this ghost, e.g.
+     * a seeded one to replay a game.
+     *
+     * @param source
+     *            The source of randomness, used by this ghost only.
+     */
+    public void setRandom(Random source) {
+        this.random = source;
+    }
+
+    /**
+     * Sets the engine this ghost plans its paths with. The engine takes
+     * precedence over the {@link #setPlayerDistances(DistanceField) shared
+     * distances}. Ghosts without an engine use the shared distances if they
+     * have them, and search breadth first otherwise.
+     *
+     * @param finder
+     *            The engine to find shortest paths with.
+     */
+    public void setPathFinder(PathFinder finder) {
+        this.pathFinder = finder;
+    }
+
+    /**
+     * @return The engine this ghost plans its paths with.
+     */
+    protected PathFinder getPathFinder() {
+        PathFinder finder = pathFinder;
+        if (finder == null) {
+            return PathFinder.BREADTH_FIRST;
+        }
+        return finder;
+    }
+
+    /**
+     * Finds the player nearest to this ghost.
+     *
+     * @return The nearest player, or <code>null</code> if no player can be
+     *         reached.
+     */
+    protected @Nullable Unit nearestPlayer() {
+        DistanceField distances = getPlayerDistances();
+        if (distances != null) {
+            return distances.nearestPlayer(getSquare());
+        }
+        return Navigation.findNearest(Player.class, getSquare());
+    }
+
     @Override
     public Sprite getSprite() {
         return sprites.get(getDirection());
@@ -56,7 +150,7 @@ public abstract class Ghost extends NPC {
 
     @Override
     public long getInterval() {
-        return this.moveInterval + new Random().nextInt(this.intervalVariation);
+        return this.moveInterval + random.nextInt(this.intervalVariation);
     }
 
     /**
@@ -67,16 +161,19 @@ public abstract class Ghost extends NPC {
      */
     @Nullable protected Direction randomMove() {
         Square square = getSquare();
-        List<Direction> directions = new ArrayList<>();
+        int accessible = square.getAccessMask(this);
+        if (accessible == 0) {
+            return null;
+        }
+        int i = random.nextInt(Integer.bitCount(accessible));
         for (Direction direction : Direction.values()) {
-            if (square.getSquareAt(direction).isAccessibleTo(this)) {
-                directions.add(direction);
+            if ((accessible & (1 << direction.ordinal())) != 0) {
+                if (i == 0) {
+                    return direction;
+                }
+                i--;
             }
         }
-        if (directions.isEmpty()) {
-            return null;
-        }
-        int i = new Random().nextInt(directions.size());
-        return directions.get(i);
+        return null;
     }
 }
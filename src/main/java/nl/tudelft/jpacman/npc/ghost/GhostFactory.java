@@ -1,5 +1,7 @@
 package nl.tudelft.jpacman.npc.ghost;
 
+import java.util.Random;
+
 import nl.tudelft.jpacman.sprite.PacManSprites;
 
 /**
@@ -14,13 +16,44 @@ public class GhostFactory {
      */
     private final PacManSprites sprites;
 
+    /**
+     * The source of the seeds of the ghosts.
+     */
+    private final Random seeds;
+
     /**
      * Creates a new ghost factory.
      *
      * @param spriteStore The sprite provider.
      */
     public GhostFactory(PacManSprites spriteStore) {
+        this(spriteStore, new Random());
+    }
+
+    /**
+     * Creates a new ghost factory of which the ghosts make their random moves
+     * from the seeds drawn from a source. Every ghost gets its own generator,
+     * so what a ghost draws does not depend on the order in which the ghosts
+     * move, and ghosts created in the same order from sources with the same
+     * seed move alike.
+     *
+     * @param spriteStore The sprite provider.
+     * @param seedSource The source of the seeds of the ghosts.
+     */
+    public GhostFactory(PacManSprites spriteStore, Random seedSource) {
         this.sprites = spriteStore;
+        this.seeds = seedSource;
+    }
+
+    /**
+     * Gives a new ghost its own generator of random numbers.
+     *
+     * @param ghost The new ghost.
+     * @return The ghost.
+     */
+    private Ghost seeded(Ghost ghost) {
+        ghost.setRandom(new Random(seeds.nextLong()));
+        return ghost;
     }
 
     /**
@@ -30,7 +63,7 @@ public class GhostFactory {
      * @return A new Blinky.
      */
     public Ghost createBlinky() {
-        return new Blinky(sprites.getGhostSprite(GhostColor.RED));
+        return seeded(new Blinky(sprites.getGhostSprite(GhostColor.RED)));
     }
 
     /**
@@ -40,7 +73,7 @@ public class GhostFactory {
      * @return A new Pinky.
      */
     public Ghost createPinky() {
-        return new Pinky(sprites.getGhostSprite(GhostColor.PINK));
+        return seeded(new Pinky(sprites.getGhostSprite(GhostColor.PINK)));
     }
 
     /**
@@ -50,7 +83,7 @@ public class GhostFactory {
      * @return A new Inky.
      */
     public Ghost createInky() {
-        return new Inky(sprites.getGhostSprite(GhostColor.CYAN));
+        return seeded(new Inky(sprites.getGhostSprite(GhostColor.CYAN)));
     }
 
     /**
@@ -60,6 +93,6 @@ public class GhostFactory {
      * @return A new Clyde.
      */
     public Ghost createClyde() {
-        return new Clyde(sprites.getGhostSprite(GhostColor.ORANGE));
+        return seeded(new Clyde(sprites.getGhostSprite(GhostColor.ORANGE)));
     }
 }
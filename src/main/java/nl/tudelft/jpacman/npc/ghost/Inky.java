@@ -6,7 +6,6 @@ import java.util.Map;
 import nl.tudelft.jpacman.board.Direction;
 import nl.tudelft.jpacman.board.Square;
 import nl.tudelft.jpacman.board.Unit;
-import nl.tudelft.jpacman.level.Player;
 import nl.tudelft.jpacman.sprite.Sprite;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -102,7 +101,7 @@ public class Inky extends Ghost {
             return randomMove();
         }
 
-        Unit player = Navigation.findNearest(Player.class, getSquare());
+        Unit player = nearestPlayer();
         if (player == null) {
             return randomMove();
         }
@@ -115,7 +114,7 @@ public class Inky extends Ghost {
         }
 
         Square destination = playerDestination;
-        List<Direction> firstHalf = Navigation.shortestPath(blinky.getSquare(),
+        List<Direction> firstHalf = getPathFinder().shortestPath(blinky.getSquare(),
             playerDestination, null);
         if (firstHalf == null) {
             return randomMove();
@@ -125,7 +124,7 @@ public class Inky extends Ghost {
             destination = playerDestination.getSquareAt(d);
         }
 
-        List<Direction> path = Navigation.shortestPath(getSquare(),
+        List<Direction> path = getPathFinder().shortestPath(getSquare(),
             destination, this);
         if (path != null && !path.isEmpty()) {
             return path.get(0);
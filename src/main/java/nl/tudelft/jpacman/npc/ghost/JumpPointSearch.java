@@ -0,0 +1,240 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link PathFinder} using jump point search: A* over only those squares
+ * where a shortest path may have to turn. Of all shortest paths, the search
+ * only considers the ones that move horizontally as early as possible. A
+ * vertical move is therefore only followed by a horizontal one where a wall
+ * blocked moving horizontally one square earlier. This lets the search jump
+ * along straight lines, scanning squares instead of queueing them, which
+ * pays off on large open boards.
+ *
+ * <p>
+ * Jumps stop after a full lap around the board, which wraps around at its
+ * borders. Squares that are not on a (single) board are searched by
+ * {@link Navigation#shortestPath(Square, Square, Unit)} instead.
+ * </p>
+ */
+public final class JumpPointSearch implements PathFinder {
+
+    /**
+     * The directions, cached to avoid copying {@link Direction#values()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @Override
+    public @Nullable List<Direction> shortestPath(Square from, Square to,
+                                                  @Nullable Unit traveller) {
+        if (from.equals(to)) {
+            return new ArrayList<>();
+        }
+        if (!Navigation.onSameBoard(from, to)) {
+            return Navigation.shortestPath(from, to, traveller);
+        }
+
+        try (BestFirstBuffers search = BestFirstBuffers.forBoard(from.getBoard())) {
+            Jumper jumper = new Jumper(search, to, traveller);
+            int root = search.indexOf(from);
+            search.start(root, search.estimate(root, jumper.target));
+            for (int current = search.next(); current >= 0; current = search.next()) {
+                if (current == jumper.target) {
+                    return search.pathTo(root, current);
+                }
+                Square square = search.squareAt(current);
+                if (current == root) {
+                    for (Direction direction : DIRECTIONS) {
+                        jumper.jump(current, square, direction);
+                    }
+                    continue;
+                }
+                Direction arrival = search.directionOf(current);
+                jumper.jump(current, square, arrival);
+                if (isHorizontal(arrival)) {
+                    jumper.jump(current, square, Direction.NORTH);
+                    jumper.jump(current, square, Direction.SOUTH);
+                } else {
+                    if (jumper.isForced(square, arrival, Direction.WEST)) {
+                        jumper.jump(current, square, Direction.WEST);
+                    }
+                    if (jumper.isForced(square, arrival, Direction.EAST)) {
+                        jumper.jump(current, square, Direction.EAST);
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    private static boolean isHorizontal(Direction direction) {
+        return direction.getDeltaX() != 0;
+    }
+
+    /**
+     * The jumps of a single search.
+     */
+    private static final class Jumper {
+
+        /**
+         * The buffers of the search.
+         */
+        private final BestFirstBuffers search;
+
+        /**
+         * The destination.
+         */
+        private final Square goal;
+
+        /**
+         * The index of the destination.
+         */
+        private final int target;
+
+        /**
+         * The traveller, or <code>null</code> to ignore terrain.
+         */
+        private final @Nullable Unit traveller;
+
+        /**
+         * Creates the jumps of a search.
+         *
+         * @param search
+         *            The buffers of the search.
+         * @param goal
+         *            The destination.
+         * @param traveller
+         *            The traveller, or <code>null</code> to ignore terrain.
+         */
+        Jumper(BestFirstBuffers search, Square goal, @Nullable Unit traveller) {
+            this.search = search;
+            this.goal = goal;
+            this.target = search.indexOf(goal);
+            this.traveller = traveller;
+        }
+
+        /**
+         * Jumps from a square and opens the square jumped to, if any.
+         *
+         * @param index
+         *            The index of the square to jump from.
+         * @param square
+         *            The square to jump from.
+         * @param direction
+         *            The direction to jump in.
+         */
+        void jump(int index, Square square, Direction direction) {
+            int steps = isHorizontal(direction)
+                ? jumpHorizontal(square, direction)
+                : jumpVertical(square, direction);
+            if (steps > 0) {
+                int next = search.move(index, direction, steps);
+                search.reach(next, search.costOf(index) + steps, index, direction,
+                    search.estimate(next, target));
+            }
+        }
+
+        /**
+         * Moves vertically until the destination is reached or a horizontal
+         * neighbour is forced. The result is remembered for every square
+         * moved over, so later jumps over the same squares, like the ones
+         * probing every square of a horizontal jump, stop at the first square
+         * they find a result for.
+         *
+         * @return The number of moves made, or 0 if nothing was found.
+         */
+        private int jumpVertical(Square square, Direction direction) {
+            int start = search.indexOf(square);
+            int known = search.jumpOf(start, direction);
+            if (known != BestFirstBuffers.UNKNOWN_JUMP) {
+                return known;
+            }
+            int height = search.getHeight();
+            Square current = square;
+            int steps = 0;
+            int found = -1;
+            while (found < 0 && steps < height - 1) {
+                if (!canMove(current, direction)) {
+                    found = 0;
+                    break;
+                }
+                current = current.getSquareAt(direction);
+                steps++;
+                if (current == goal || isForced(current, direction, Direction.WEST)
+                    || isForced(current, direction, Direction.EAST)) {
+                    found = steps;
+                } else {
+                    int next = search.jumpOf(search.indexOf(current), direction);
+                    if (next == 0) {
+                        found = 0;
+                    } else if (next != BestFirstBuffers.UNKNOWN_JUMP) {
+                        found = steps + next;
+                    }
+                }
+            }
+            if (found < 0 || found >= height) {
+                // Lapped the board: the squares moved over may find the
+                // starting square, so only its own result is known.
+                search.setJump(start, direction, 0);
+                return 0;
+            }
+            for (int i = 0, index = start; i < steps; i++) {
+                search.setJump(index, direction, found == 0 ? 0 : found - i);
+                index = search.move(index, direction, 1);
+            }
+            return found;
+        }
+
+        /**
+         * Moves horizontally until the destination is reached, or a vertical
+         * jump from the square moved to finds something.
+         *
+         * @return The number of moves made, or 0 if nothing was found.
+         */
+        private int jumpHorizontal(Square square, Direction direction) {
+            Square current = square;
+            for (int steps = 1; steps < search.getWidth(); steps++) {
+                if (!canMove(current, direction)) {
+                    return 0;
+                }
+                current = current.getSquareAt(direction);
+                if (current == goal || jumpVertical(current, Direction.NORTH) > 0
+                    || jumpVertical(current, Direction.SOUTH) > 0) {
+                    return steps;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Determines whether moving horizontally is forced after a vertical
+         * move, i.e. whether moving horizontally one square earlier was
+         * blocked.
+         *
+         * @param square
+         *            The square arrived at.
+         * @param vertical
+         *            The direction of the vertical move.
+         * @param horizontal
+         *            The horizontal direction to test.
+         * @return <code>true</code> iff the move in the horizontal direction
+         *         has to be considered.
+         */
+        boolean isForced(Square square, Direction vertical, Direction horizontal) {
+            return canMove(square, horizontal)
+                && !canMove(square.getSquareAt(vertical.getOpposite()), horizontal);
+        }
+
+        private boolean canMove(Square square, Direction direction) {
+            Unit unit = traveller;
+            return unit == null
+                || (square.getAccessMask(unit) & (1 << direction.ordinal())) != 0;
+        }
+    }
+}
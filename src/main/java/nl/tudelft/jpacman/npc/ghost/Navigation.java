@@ -1,11 +1,14 @@
 package nl.tudelft.jpacman.npc.ghost;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.NextHopTable;
 import nl.tudelft.jpacman.board.Square;
 import nl.tudelft.jpacman.board.Unit;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -17,14 +20,26 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public final class Navigation {
 
+    /**
+     * The directions, cached to avoid copying {@link Direction#values()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The access mask with all directions accessible.
+     */
+    private static final int ALL_DIRECTIONS = (1 << Direction.values().length) - 1;
+
     private Navigation() {
     }
 
     /**
-     * Calculates the shortest path. This is done by BFS. This search ensures
-     * the traveller is allowed to occupy the squares on the way, or returns the
-     * shortest path to the square regardless of terrain if no traveller is
-     * specified.
+     * Calculates the shortest path. If the board has a {@link NextHopTable},
+     * the path is read from the table. Otherwise this is done by BFS over the
+     * indices of the squares on the board, see {@link SearchBuffers}. This
+     * search ensures the traveller is allowed to occupy the squares on the
+     * way, or returns the shortest path to the square regardless of terrain if
+     * no traveller is specified.
      *
      * @param from
      *            The starting square.
@@ -44,31 +59,74 @@ public final class Navigation {
         if (from.equals(to)) {
             return new ArrayList<>();
         }
+        if (!onSameBoard(from, to)) {
+            return shortestUnindexedPath(from, to, traveller);
+        }
+        NextHopTable table = from.getBoard().getNextHops();
+        if (traveller != null && table != null && table.covers(from)) {
+            return table.path(from, to);
+        }
+
+        try (SearchBuffers search = SearchBuffers.forBoard(from.getBoard())) {
+            int root = search.indexOf(from);
+            int target = search.indexOf(to);
+            search.start(root);
+            while (!search.isEmpty()) {
+                int current = search.next();
+                Square square = search.squareAt(current);
+                int accessible = traveller == null
+                    ? ALL_DIRECTIONS : square.getAccessMask(traveller);
+                for (Direction direction : DIRECTIONS) {
+                    if ((accessible & (1 << direction.ordinal())) != 0) {
+                        int next = search.indexOf(square.getSquareAt(direction));
+                        if (search.visit(next, current, direction) && next == target) {
+                            return search.pathTo(root, target);
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+    }
 
-        List<Node> targets = new ArrayList<>();
+    /**
+     * Calculates the shortest path between squares that are not on a (single)
+     * board, and can hence not be searched by their index.
+     *
+     * @see #shortestPath(Square, Square, Unit)
+     */
+    private @Nullable static List<Direction> shortestUnindexedPath(Square from, Square to,
+                                                                   @Nullable Unit traveller) {
+        Deque<Node> targets = new ArrayDeque<>();
         Set<Square> visited = new HashSet<>();
         targets.add(new Node(null, from, null));
+        visited.add(from);
         while (!targets.isEmpty()) {
-            Node node = targets.remove(0);
+            Node node = targets.remove();
             Square square = node.getSquare();
             if (square.equals(to)) {
                 return node.getPath();
             }
-            visited.add(square);
-            addNewTargets(traveller, targets, visited, node, square);
+            int accessible = traveller == null ? ALL_DIRECTIONS : square.getAccessMask(traveller);
+            for (Direction direction : DIRECTIONS) {
+                Square target = square.getSquareAt(direction);
+                if ((accessible & (1 << direction.ordinal())) != 0 && visited.add(target)) {
+                    targets.add(new Node(direction, target, node));
+                }
+            }
         }
         return null;
     }
 
-    private static void addNewTargets(@Nullable Unit traveller, List<Node> targets,
-                                      Set<Square> visited, Node node, Square square) {
-        for (Direction direction : Direction.values()) {
-            Square target = square.getSquareAt(direction);
-            if (!visited.contains(target)
-                && (traveller == null || target.isAccessibleTo(traveller))) {
-                targets.add(new Node(direction, target, node));
-            }
-        }
+    /**
+     * @param from
+     *            The first square.
+     * @param to
+     *            The second square.
+     * @return <code>true</code> iff both squares are on the same board.
+     */
+    static boolean onSameBoard(Square from, Square to) {
+        return from.isOnBoard() && to.isOnBoard() && from.getBoard() == to.getBoard();
     }
 
     /**
@@ -85,22 +143,52 @@ public final class Navigation {
      */
     public @Nullable static Unit findNearest(Class<? extends Unit> type,
                                              Square currentLocation) {
-        List<Square> toDo = new ArrayList<>();
+        if (!currentLocation.isOnBoard()) {
+            return findNearestUnindexed(type, currentLocation);
+        }
+
+        try (SearchBuffers search = SearchBuffers.forBoard(currentLocation.getBoard())) {
+            search.start(search.indexOf(currentLocation));
+            while (!search.isEmpty()) {
+                int current = search.next();
+                Square square = search.squareAt(current);
+                Unit unit = findUnit(type, square);
+                if (unit != null) {
+                    assert unit.hasSquare();
+                    return unit;
+                }
+                for (Direction direction : DIRECTIONS) {
+                    search.visit(search.indexOf(square.getSquareAt(direction)), current, direction);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Finds the nearest unit of the given type from a square that is not on a
+     * board, and can hence not be searched by index.
+     *
+     * @see #findNearest(Class, Square)
+     */
+    private @Nullable static Unit findNearestUnindexed(Class<? extends Unit> type,
+                                                       Square currentLocation) {
+        Deque<Square> toDo = new ArrayDeque<>();
         Set<Square> visited = new HashSet<>();
 
         toDo.add(currentLocation);
+        visited.add(currentLocation);
 
         while (!toDo.isEmpty()) {
-            Square square = toDo.remove(0);
+            Square square = toDo.remove();
             Unit unit = findUnit(type, square);
             if (unit != null) {
                 assert unit.hasSquare();
                 return unit;
             }
-            visited.add(square);
-            for (Direction direction : Direction.values()) {
+            for (Direction direction : DIRECTIONS) {
                 Square newTarget = square.getSquareAt(direction);
-                if (!visited.contains(newTarget) && !toDo.contains(newTarget)) {
+                if (visited.add(newTarget)) {
                     toDo.add(newTarget);
                 }
             }
@@ -0,0 +1,57 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A search engine finding shortest paths between squares. Ghosts use one to
+ * plan their moves, see {@link Ghost#setPathFinder(PathFinder)}.
+ *
+ * <p>
+ * All engines find a path of the same (shortest) length, but the paths
+ * themselves may differ when there are several. Which engine is fastest
+ * depends on the board: a breadth first search does well on small mazes,
+ * while the informed searches pay off on large open boards.
+ * </p>
+ */
+public interface PathFinder {
+
+    /**
+     * Searches all squares in order of their distance from the start.
+     */
+    PathFinder BREADTH_FIRST = Navigation::shortestPath;
+
+    /**
+     * Searches the squares in order of their estimated distance through them,
+     * see {@link AStarSearch}.
+     */
+    PathFinder A_STAR = new AStarSearch();
+
+    /**
+     * Searches by jumping along straight lines between the squares where the
+     * path may turn, see {@link JumpPointSearch}.
+     */
+    PathFinder JUMP_POINT = new JumpPointSearch();
+
+    /**
+     * Calculates the shortest path. This search ensures the traveller is
+     * allowed to occupy the squares on the way, or returns the shortest path
+     * to the square regardless of terrain if no traveller is specified.
+     *
+     * @param from
+     *            The starting square.
+     * @param to
+     *            The destination.
+     * @param traveller
+     *            The traveller attempting to reach the destination, or
+     *            <code>null</code> to ignore terrain.
+     * @return The shortest path to the destination or <code>null</code> if no
+     *         such path could be found. When the destination is the current
+     *         square, an empty list is returned.
+     */
+    @Nullable List<Direction> shortestPath(Square from, Square to, @Nullable Unit traveller);
+}
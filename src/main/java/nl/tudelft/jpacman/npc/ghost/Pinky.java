@@ -6,7 +6,6 @@ import java.util.Map;
 import nl.tudelft.jpacman.board.Direction;
 import nl.tudelft.jpacman.board.Square;
 import nl.tudelft.jpacman.board.Unit;
-import nl.tudelft.jpacman.level.Player;
 import nl.tudelft.jpacman.sprite.Sprite;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -90,7 +89,7 @@ public class Pinky extends Ghost {
     public @Nullable Direction nextMove() {
         assert hasSquare();
 
-        Unit player = Navigation.findNearest(Player.class, getSquare());
+        Unit player = nearestPlayer();
         if (player == null) {
             return randomMove();
         }
@@ -102,7 +101,7 @@ public class Pinky extends Ghost {
             destination = destination.getSquareAt(targetDirection);
         }
 
-        List<Direction> path = Navigation.shortestPath(getSquare(), destination, this);
+        List<Direction> path = getPathFinder().shortestPath(getSquare(), destination, this);
         if (path != null && !path.isEmpty()) {
             return path.get(0);
         }
@@ -0,0 +1,219 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Reusable scratch space for breadth first searches over the squares of a
+ * {@link Board}. Squares are identified by their dense index
+ * <code>x * height + y</code>, the queue is a plain array (every square is
+ * enqueued at most once) and the visited set is a bitmap. The buffers are
+ * borrowed from a {@link BufferPool} shared by all threads and only grow, so
+ * a search does not produce garbage proportional to the size of the board.
+ */
+final class SearchBuffers implements AutoCloseable {
+
+    /**
+     * The buffers not used by any search.
+     */
+    private static final BufferPool<SearchBuffers> POOL = new BufferPool<>(SearchBuffers::new);
+
+    /**
+     * The directions, cached to avoid copying {@link Direction#values()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The number of bits in a word of the visited bitmap, as a shift.
+     */
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * The queue of square indices to expand.
+     */
+    private int[] queue = new int[0];
+
+    /**
+     * For every visited square, the index of the square it was reached from.
+     */
+    private int[] parents = new int[0];
+
+    /**
+     * For every visited square, the ordinal of the direction it was reached
+     * by.
+     */
+    private byte[] directions = new byte[0];
+
+    /**
+     * The bitmap of visited squares.
+     */
+    private long[] visited = new long[0];
+
+    /**
+     * The position of the next index to dequeue.
+     */
+    private int head;
+
+    /**
+     * The position of the next index to enqueue.
+     */
+    private int tail;
+
+    /**
+     * The board being searched.
+     */
+    private @Nullable Board board;
+
+    /**
+     * The height of the board being searched.
+     */
+    private int height;
+
+    private SearchBuffers() {
+    }
+
+    /**
+     * Borrows (cleared) buffers from the pool, sized for the board. They are
+     * to be {@link #close() closed} when the search is done.
+     *
+     * @param board
+     *            The board to search.
+     * @return Buffers used by no other search.
+     */
+    static SearchBuffers forBoard(Board board) {
+        SearchBuffers buffers = POOL.acquire();
+        buffers.reset(board);
+        return buffers;
+    }
+
+    /**
+     * Returns the buffers to the pool, forgetting the board searched.
+     */
+    @Override
+    public void close() {
+        board = null;
+        POOL.release(this);
+    }
+
+    private void reset(Board newBoard) {
+        board = newBoard;
+        height = newBoard.getHeight();
+        int size = newBoard.getWidth() * height;
+        if (queue.length < size) {
+            queue = new int[size];
+            parents = new int[size];
+            directions = new byte[size];
+            visited = new long[(size >>> WORD_SHIFT) + 1];
+        } else {
+            Arrays.fill(visited, 0, (size >>> WORD_SHIFT) + 1, 0L);
+        }
+        head = 0;
+        tail = 0;
+    }
+
+    /**
+     * @param square
+     *            A square on the board being searched.
+     * @return The dense index of the square.
+     */
+    int indexOf(Square square) {
+        assert square.isOnBoard() && square.getBoard() == board;
+        return square.getX() * height + square.getY();
+    }
+
+    /**
+     * @param index
+     *            The dense index of a square.
+     * @return The square with the given index.
+     */
+    Square squareAt(int index) {
+        Board searched = board;
+        assert searched != null;
+        return searched.squareAt(index / height, index % height);
+    }
+
+    /**
+     * Marks the search root as visited and enqueues it.
+     *
+     * @param index
+     *            The index of the root square.
+     */
+    void start(int index) {
+        markVisited(index);
+        queue[tail++] = index;
+    }
+
+    /**
+     * Visits a square reached from another square, enqueueing it if it had
+     * not been visited yet.
+     *
+     * @param index
+     *            The index of the square reached.
+     * @param parent
+     *            The index of the square it was reached from.
+     * @param direction
+     *            The direction it was reached by.
+     * @return <code>true</code> iff the square had not been visited before.
+     */
+    boolean visit(int index, int parent, Direction direction) {
+        if (!markVisited(index)) {
+            return false;
+        }
+        parents[index] = parent;
+        directions[index] = (byte) direction.ordinal();
+        queue[tail++] = index;
+        return true;
+    }
+
+    private boolean markVisited(int index) {
+        int word = index >>> WORD_SHIFT;
+        long bit = 1L << index;
+        if ((visited[word] & bit) != 0) {
+            return false;
+        }
+        visited[word] |= bit;
+        return true;
+    }
+
+    /**
+     * @return <code>true</code> iff there are no more squares to expand.
+     */
+    boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * @return The index of the next square to expand.
+     */
+    int next() {
+        assert !isEmpty();
+        return queue[head++];
+    }
+
+    /**
+     * Reconstructs the path from the root of the search to a visited square.
+     *
+     * @param root
+     *            The index of the root of the search.
+     * @param index
+     *            The index of the visited square.
+     * @return The directions to follow from the root to the square.
+     */
+    List<Direction> pathTo(int root, int index) {
+        List<Direction> path = new ArrayList<>();
+        int current = index;
+        while (current != root) {
+            path.add(DIRECTIONS[directions[current]]);
+            current = parents[current];
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
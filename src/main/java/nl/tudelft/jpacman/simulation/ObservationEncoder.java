@@ -0,0 +1,284 @@
+package nl.tudelft.jpacman.simulation;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.Pellet;
+import nl.tudelft.jpacman.level.Player;
+import nl.tudelft.jpacman.npc.ghost.Blinky;
+import nl.tudelft.jpacman.npc.ghost.Clyde;
+import nl.tudelft.jpacman.npc.ghost.Inky;
+import nl.tudelft.jpacman.npc.ghost.Pinky;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Encodes the state of a board as planes of bytes in a direct (off-heap)
+ * buffer, ready to be handed to native code without copying. Every
+ * {@link Plane} holds a byte for every square, in the order
+ * <code>x * height + y</code>: 1 if the square has what the plane is about,
+ * 0 otherwise. The planes follow each other in the order of {@link Plane}.
+ *
+ * <p>
+ * The walls, the squares the players cannot enter, never change, so they
+ * are encoded once. {@link #update()} only rewrites what may have changed
+ * since the previous update: the squares of the units that were on the
+ * board when the encoder was created, and the pellets that were still on the
+ * board. Create the encoder once the players are on the board.
+ * </p>
+ *
+ * <p>
+ * Updates must not run concurrently with moves on the board.
+ * </p>
+ */
+public class ObservationEncoder {
+
+    /**
+     * The planes of an observation.
+     */
+    public enum Plane {
+
+        /**
+         * The squares that cannot be entered.
+         */
+        WALL,
+
+        /**
+         * The squares with a pellet.
+         */
+        PELLET,
+
+        /**
+         * The squares with a player.
+         */
+        PLAYER,
+
+        /**
+         * The square of Blinky.
+         */
+        BLINKY,
+
+        /**
+         * The square of Pinky.
+         */
+        PINKY,
+
+        /**
+         * The square of Inky.
+         */
+        INKY,
+
+        /**
+         * The square of Clyde.
+         */
+        CLYDE
+    }
+
+    /**
+     * The planes, cached to avoid copying {@link Plane#values()}.
+     */
+    private static final Plane[] PLANES = Plane.values();
+
+    /**
+     * The board to encode.
+     */
+    private final Board board;
+
+    /**
+     * The number of squares of the board, i.e. the size of a plane.
+     */
+    private final int squares;
+
+    /**
+     * The encoded observation.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The units whose squares are encoded.
+     */
+    private final Unit[] units;
+
+    /**
+     * For every unit, the position in the buffer it was last encoded at, or
+     * -1 if it was not on the board.
+     */
+    private final int[] positions;
+
+    /**
+     * The indices of the squares that had a pellet at the last update; only
+     * the first {@link #pelletCount} are valid.
+     */
+    private final int[] pellets;
+
+    /**
+     * The number of squares that had a pellet at the last update.
+     */
+    private int pelletCount;
+
+    /**
+     * Creates a new encoder and encodes the current state of the board.
+     *
+     * @param board
+     *            The board to encode.
+     */
+    public ObservationEncoder(Board board) {
+        this.board = board;
+        this.squares = board.getWidth() * board.getHeight();
+        this.buffer = ByteBuffer.allocateDirect(PLANES.length * squares);
+
+        List<Unit> found = new ArrayList<>();
+        int[] pelletSquares = new int[squares];
+        int pelletsFound = 0;
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                int index = x * board.getHeight() + y;
+                Square square = board.squareAt(x, y);
+                for (Unit unit : square.getOccupants()) {
+                    if (unit instanceof Pellet) {
+                        pelletSquares[pelletsFound++] = index;
+                        buffer.put(Plane.PELLET.ordinal() * squares + index, (byte) 1);
+                    } else if (planeOf(unit) != null) {
+                        found.add(unit);
+                    }
+                }
+            }
+        }
+        Unit player = null;
+        for (Unit unit : found) {
+            if (unit instanceof Player) {
+                player = unit;
+                break;
+            }
+        }
+        assert player != null : "The players must be on the board.";
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                if (!board.squareAt(x, y).isAccessibleTo(player)) {
+                    buffer.put(Plane.WALL.ordinal() * squares + x * board.getHeight() + y,
+                        (byte) 1);
+                }
+            }
+        }
+        this.pellets = pelletSquares;
+        this.pelletCount = pelletsFound;
+        this.units = found.toArray(new Unit[found.size()]);
+        this.positions = new int[units.length];
+        for (int i = 0; i < units.length; i++) {
+            positions[i] = -1;
+        }
+        encodeUnits(board.getHeight(), squares, units, positions, buffer);
+    }
+
+    /**
+     * @param unit
+     *            A unit on the board.
+     * @return The plane the unit is encoded in, or <code>null</code> if it is
+     *         not encoded.
+     */
+    private static @Nullable Plane planeOf(Unit unit) {
+        if (unit instanceof Player) {
+            return Plane.PLAYER;
+        } else if (unit instanceof Blinky) {
+            return Plane.BLINKY;
+        } else if (unit instanceof Pinky) {
+            return Plane.PINKY;
+        } else if (unit instanceof Inky) {
+            return Plane.INKY;
+        } else if (unit instanceof Clyde) {
+            return Plane.CLYDE;
+        }
+        return null;
+    }
+
+    /**
+     * Moves the units to their current squares in the buffer.
+     *
+     * @param height
+     *            The height of the board.
+     * @param squares
+     *            The number of squares of the board.
+     * @param units
+     *            The units to encode.
+     * @param positions
+     *            The positions the units were last encoded at.
+     * @param buffer
+     *            The buffer to encode in.
+     */
+    private static void encodeUnits(int height, int squares, Unit[] units, int[] positions,
+                                    ByteBuffer buffer) {
+        for (int i = 0; i < units.length; i++) {
+            if (positions[i] >= 0) {
+                buffer.put(positions[i], (byte) 0);
+            }
+        }
+        for (int i = 0; i < units.length; i++) {
+            Unit unit = units[i];
+            Plane plane = planeOf(unit);
+            assert plane != null;
+            if (unit.hasSquare()) {
+                Square square = unit.getSquare();
+                positions[i] = plane.ordinal() * squares + square.getX() * height + square.getY();
+                buffer.put(positions[i], (byte) 1);
+            } else {
+                positions[i] = -1;
+            }
+        }
+    }
+
+    /**
+     * Encodes what changed on the board since the previous update.
+     */
+    public void update() {
+        encodeUnits(board.getHeight(), squares, units, positions, buffer);
+
+        int height = board.getHeight();
+        int remaining = 0;
+        for (int i = 0; i < pelletCount; i++) {
+            int index = pellets[i];
+            if (hasPellet(board.squareAt(index / height, index % height))) {
+                pellets[remaining++] = index;
+            } else {
+                buffer.put(Plane.PELLET.ordinal() * squares + index, (byte) 0);
+            }
+        }
+        pelletCount = remaining;
+    }
+
+    private static boolean hasPellet(Square square) {
+        for (Unit unit : square.getOccupants()) {
+            if (unit instanceof Pellet) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of squares of the board, i.e. the number of bytes
+     *         of a plane.
+     */
+    public int getPlaneSize() {
+        return squares;
+    }
+
+    /**
+     * @param plane
+     *            A plane of the observation.
+     * @return The position in the buffer the plane starts at.
+     */
+    public int offsetOf(Plane plane) {
+        return plane.ordinal() * squares;
+    }
+
+    /**
+     * @return The buffer holding the observation, which is updated in place
+     *         by every update.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+}
@@ -0,0 +1,204 @@
+package nl.tudelft.jpacman.simulation;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.game.Game;
+import nl.tudelft.jpacman.game.GameFactory;
+import nl.tudelft.jpacman.level.Level;
+import nl.tudelft.jpacman.level.LevelFactory;
+import nl.tudelft.jpacman.level.MapParser;
+import nl.tudelft.jpacman.level.Player;
+import nl.tudelft.jpacman.level.PlayerFactory;
+import nl.tudelft.jpacman.level.TickScheduler;
+import nl.tudelft.jpacman.npc.ghost.GhostFactory;
+import nl.tudelft.jpacman.sprite.HeadlessSprites;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+/**
+ * Plays a single player game without a user interface, in virtual time. The
+ * NPCs are moved by a {@link TickScheduler} that is only advanced by
+ * {@link #tick()}, so every NPC keeps to its own interval, but a tick takes
+ * no longer than it takes to make the moves due. No threads are started and
+ * no images are loaded.
+ *
+ * <p>
+ * A simulator is not thread safe, but simulators do not share any state, so
+ * many of them can be run in parallel.
+ * </p>
+ */
+public class Simulator {
+
+    /**
+     * The scheduler moving the NPCs, advanced by hand.
+     */
+    private final TickScheduler scheduler;
+
+    /**
+     * The game being played.
+     */
+    private final Game game;
+
+    /**
+     * The player of the game.
+     */
+    private final Player player;
+
+    /**
+     * Creates a new simulation of a map, with ticks of
+     * {@link TickScheduler#DEFAULT_TICK_MILLIS}, and starts it.
+     *
+     * @param map
+     *            The rows of the map, as read by {@link MapParser}.
+     */
+    public Simulator(List<String> map) {
+        this(map, TickScheduler.DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Creates a new simulation of a map and starts it.
+     *
+     * @param map
+     *            The rows of the map, as read by {@link MapParser}.
+     * @param tickMillis
+     *            The virtual duration of a single tick in milliseconds.
+     */
+    public Simulator(List<String> map, long tickMillis) {
+        this(tickMillis, new Random(), parser -> parser.parseMap(map));
+    }
+
+    /**
+     * Creates a new simulation of a map and starts it. Simulations of the
+     * same map with the same seed play alike if the player makes the same
+     * moves at the same ticks.
+     *
+     * @param map
+     *            The rows of the map, as read by {@link MapParser}.
+     * @param tickMillis
+     *            The virtual duration of a single tick in milliseconds.
+     * @param seed
+     *            The seed of the random moves of the ghosts.
+     */
+    public Simulator(List<String> map, long tickMillis, long seed) {
+        this(tickMillis, new Random(seed), parser -> parser.parseMap(map));
+    }
+
+    /**
+     * Creates a new simulation of a map and starts it.
+     *
+     * @param map
+     *            The squares of the map, as read by {@link MapParser}.
+     * @param tickMillis
+     *            The virtual duration of a single tick in milliseconds.
+     */
+    public Simulator(char[][] map, long tickMillis) {
+        this(tickMillis, new Random(), parser -> parser.parseMap(map));
+    }
+
+    /**
+     * Creates a new simulation of a map and starts it. Simulations of the
+     * same map with the same seed play alike if the player makes the same
+     * moves at the same ticks.
+     *
+     * @param map
+     *            The squares of the map, as read by {@link MapParser}.
+     * @param tickMillis
+     *            The virtual duration of a single tick in milliseconds.
+     * @param seed
+     *            The seed of the random moves of the ghosts.
+     */
+    public Simulator(char[][] map, long tickMillis, long seed) {
+        this(tickMillis, new Random(seed), parser -> parser.parseMap(map));
+    }
+
+    private Simulator(long tickMillis, Random seeds, Function<MapParser, Level> parse) {
+        PacManSprites sprites = new HeadlessSprites();
+        this.scheduler = new TickScheduler(tickMillis);
+        LevelFactory levelFactory = new LevelFactory(sprites,
+            new GhostFactory(sprites, seeds), scheduler);
+        Level level = parse.apply(new MapParser(levelFactory, new BoardFactory(sprites)));
+        this.game = new GameFactory(new PlayerFactory(sprites)).createSinglePlayerGame(level);
+        this.player = game.getPlayers().get(0);
+        game.start();
+    }
+
+    /**
+     * @return The game being played.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return The level being played.
+     */
+    public Level getLevel() {
+        return game.getLevel();
+    }
+
+    /**
+     * @return The player of the game.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Moves the player, if the game is still in progress.
+     *
+     * @param direction
+     *            The direction to move the player in.
+     */
+    public void move(Direction direction) {
+        game.move(player, direction);
+    }
+
+    /**
+     * Advances virtual time by a single tick, moving all NPCs that are due.
+     */
+    public void tick() {
+        scheduler.tick();
+    }
+
+    /**
+     * Advances virtual time until the game is over, or a number of ticks
+     * have passed.
+     *
+     * @param maxTicks
+     *            The largest number of ticks to advance.
+     * @return The number of ticks advanced.
+     */
+    public long run(long maxTicks) {
+        long ticks = 0L;
+        while (ticks < maxTicks && !isFinished()) {
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * @return <code>true</code> iff the game is over, i.e. the player won or
+     *         lost (or the game was stopped).
+     */
+    public boolean isFinished() {
+        return !game.isInProgress();
+    }
+
+    /**
+     * @return The number of ticks that have passed.
+     */
+    public long getTicks() {
+        return scheduler.getCurrentTick();
+    }
+
+    /**
+     * @return The virtual time that has passed, in milliseconds.
+     */
+    public long getTime() {
+        return scheduler.getCurrentTick() * scheduler.getTickMillis();
+    }
+}
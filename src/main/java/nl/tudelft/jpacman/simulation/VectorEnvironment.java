@@ -0,0 +1,396 @@
+package nl.tudelft.jpacman.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.Pellet;
+import nl.tudelft.jpacman.level.Player;
+import nl.tudelft.jpacman.npc.NPC;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A number of independent games that are stepped in lockstep, for training
+ * agents. Every step moves the player of every game, advances every game by
+ * the same number of ticks, and writes the observations, rewards and done
+ * flags of all games into buffers that are allocated once and overwritten by
+ * every step. The games are stepped in parallel on a fork-join pool.
+ *
+ * <p>
+ * A game that is over is replaced by a new one at the end of the step, so
+ * the observation of a game that is done is the first observation of its
+ * next game.
+ * </p>
+ *
+ * <p>
+ * The observation of a game holds a byte for every square of its board, in
+ * the order <code>x * height + y</code>: {@link #WALL}, {@link #GROUND},
+ * {@link #PELLET}, {@link #GHOST} or {@link #PLAYER}, the latter taking
+ * precedence. All games must have boards of the same size.
+ * </p>
+ */
+public class VectorEnvironment {
+
+    /**
+     * A square that cannot be entered.
+     */
+    public static final byte WALL = 0;
+
+    /**
+     * An empty square that can be entered.
+     */
+    public static final byte GROUND = 1;
+
+    /**
+     * A square with a pellet.
+     */
+    public static final byte PELLET = 2;
+
+    /**
+     * A square with a ghost.
+     */
+    public static final byte GHOST = 3;
+
+    /**
+     * A square with the player.
+     */
+    public static final byte PLAYER = 4;
+
+    /**
+     * The number of ranges of games per thread of the pool, to balance the
+     * load when some games take longer to step than others.
+     */
+    private static final int RANGES_PER_THREAD = 4;
+
+    /**
+     * Creates the games.
+     */
+    private final Supplier<Simulator> factory;
+
+    /**
+     * The games.
+     */
+    private final Simulator[] games;
+
+    /**
+     * The number of ticks every step advances the games by.
+     */
+    private final int ticksPerStep;
+
+    /**
+     * The pool stepping the games.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The number of squares of every board.
+     */
+    private final int squares;
+
+    /**
+     * The observations of all games, {@link #squares} bytes per game.
+     */
+    private final byte[] observations;
+
+    /**
+     * The rewards of all games in the last step: the points scored.
+     */
+    private final float[] rewards;
+
+    /**
+     * The done flags of all games in the last step.
+     */
+    private final boolean[] dones;
+
+    /**
+     * The task stepping all games, reused for every step.
+     */
+    private final StepAll stepAll;
+
+    /**
+     * The actions of the current step.
+     */
+    private @Nullable Direction @Nullable [] actions;
+
+    /**
+     * Creates new games, stepped on the common fork-join pool.
+     *
+     * @param count
+     *            The number of games.
+     * @param factory
+     *            Creates a new game, whenever one is needed.
+     * @param ticksPerStep
+     *            The number of ticks every step advances the games by.
+     */
+    public VectorEnvironment(int count, Supplier<Simulator> factory, int ticksPerStep) {
+        this(count, factory, ticksPerStep, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates new games.
+     *
+     * @param count
+     *            The number of games.
+     * @param factory
+     *            Creates a new game, whenever one is needed.
+     * @param ticksPerStep
+     *            The number of ticks every step advances the games by.
+     * @param pool
+     *            The pool stepping the games.
+     */
+    public VectorEnvironment(int count, Supplier<Simulator> factory, int ticksPerStep,
+                             ForkJoinPool pool) {
+        assert count > 0;
+        assert ticksPerStep >= 0;
+
+        this.factory = factory;
+        this.ticksPerStep = ticksPerStep;
+        this.pool = pool;
+        this.games = new Simulator[count];
+        for (int i = 0; i < count; i++) {
+            games[i] = factory.get();
+        }
+        Board board = games[0].getLevel().getBoard();
+        this.squares = board.getWidth() * board.getHeight();
+        this.observations = new byte[count * squares];
+        this.rewards = new float[count];
+        this.dones = new boolean[count];
+
+        int rangeCount = Math.min(count, pool.getParallelism() * RANGES_PER_THREAD);
+        StepRange[] ranges = new StepRange[rangeCount];
+        for (int r = 0; r < rangeCount; r++) {
+            ranges[r] = new StepRange(r * count / rangeCount, (r + 1) * count / rangeCount);
+        }
+        this.stepAll = new StepAll(ranges);
+        for (int i = 0; i < count; i++) {
+            observe(games[i], observations, i * squares);
+        }
+    }
+
+    /**
+     * @return The number of games.
+     */
+    public int size() {
+        return games.length;
+    }
+
+    /**
+     * @return The number of bytes of the observation of a single game.
+     */
+    public int getObservationSize() {
+        return squares;
+    }
+
+    /**
+     * @param index
+     *            The index of a game.
+     * @return The game with the given index. It is replaced once it is done.
+     */
+    public Simulator getGame(int index) {
+        return games[index];
+    }
+
+    /**
+     * Replaces all games by new ones, and observes them.
+     */
+    public void reset() {
+        for (int i = 0; i < games.length; i++) {
+            games[i] = factory.get();
+            rewards[i] = 0f;
+            dones[i] = false;
+            observe(games[i], observations, i * squares);
+        }
+    }
+
+    /**
+     * Steps all games: moves their players and advances them by the ticks of
+     * a step, or until they are over.
+     *
+     * @param stepActions
+     *            The direction to move the player of every game in, or
+     *            <code>null</code> not to move it.
+     */
+    public void step(@Nullable Direction[] stepActions) {
+        assert stepActions.length == games.length;
+        actions = stepActions;
+        stepAll.reinitialize();
+        for (StepRange range : stepAll.ranges) {
+            range.reinitialize();
+        }
+        pool.invoke(stepAll);
+        actions = null;
+    }
+
+    /**
+     * Steps a single game.
+     *
+     * @param index
+     *            The index of the game.
+     * @param action
+     *            The direction to move the player in, if any.
+     */
+    private void step(int index, @Nullable Direction action) {
+        Simulator game = games[index];
+        Board board = game.getLevel().getBoard();
+        assert board.getWidth() * board.getHeight() == squares;
+        Player player = game.getPlayer();
+        int score = player.getScore();
+        if (action != null) {
+            game.move(action);
+        }
+        for (int t = 0; t < ticksPerStep && !game.isFinished(); t++) {
+            game.tick();
+        }
+        rewards[index] = player.getScore() - score;
+        dones[index] = game.isFinished();
+        if (dones[index]) {
+            games[index] = factory.get();
+        }
+        observe(games[index], observations, index * squares);
+    }
+
+    /**
+     * Writes the observation of a game into a buffer.
+     *
+     * @param game
+     *            The game to observe.
+     * @param buffer
+     *            The buffer to write to.
+     * @param start
+     *            The position in the buffer to start writing at.
+     */
+    private static void observe(Simulator game, byte[] buffer, int start) {
+        Board board = game.getLevel().getBoard();
+        Player player = game.getPlayer();
+        int offset = start;
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                buffer[offset++] = encode(board.squareAt(x, y), player);
+            }
+        }
+    }
+
+    /**
+     * @param square
+     *            The square to encode.
+     * @param player
+     *            The player of the game.
+     * @return The byte encoding what is on the square.
+     */
+    private static byte encode(Square square, Player player) {
+        byte code = square.isAccessibleTo(player) ? GROUND : WALL;
+        for (Unit unit : square.getOccupants()) {
+            if (unit instanceof Player) {
+                return PLAYER;
+            } else if (unit instanceof NPC) {
+                code = GHOST;
+            } else if (unit instanceof Pellet && code != GHOST) {
+                code = PELLET;
+            }
+        }
+        return code;
+    }
+
+    /**
+     * @return The observations of all games after the last step,
+     *         {@link #getObservationSize()} bytes per game. The buffer is
+     *         overwritten by the next step.
+     */
+    public byte[] getObservations() {
+        return observations;
+    }
+
+    /**
+     * @return The points scored in every game during the last step. The
+     *         buffer is overwritten by the next step.
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * @return Whether every game ended during the last step. The buffer is
+     *         overwritten by the next step.
+     */
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    /**
+     * Steps all ranges of games, in parallel.
+     */
+    private static final class StepAll extends RecursiveAction {
+
+        /**
+         * Default serialisation UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The ranges of games to step.
+         */
+        private final StepRange[] ranges;
+
+        /**
+         * Creates a new task.
+         *
+         * @param ranges
+         *            The ranges of games to step.
+         */
+        StepAll(StepRange[] ranges) {
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(ranges);
+        }
+    }
+
+    /**
+     * Steps a range of games, one after the other.
+     */
+    private final class StepRange extends RecursiveAction {
+
+        /**
+         * Default serialisation UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the first game of the range.
+         */
+        private final int from;
+
+        /**
+         * The index after the last game of the range.
+         */
+        private final int to;
+
+        /**
+         * Creates a new task.
+         *
+         * @param from
+         *            The index of the first game of the range.
+         * @param to
+         *            The index after the last game of the range.
+         */
+        StepRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            @Nullable Direction[] current = actions;
+            assert current != null;
+            for (int i = from; i < to; i++) {
+                step(i, current[i]);
+            }
+        }
+    }
+}
@@ -3,8 +3,8 @@ package nl.tudelft.jpacman.sprite;
 import java.awt.Graphics;
 
 /**
- * Animated sprite, renders the frame depending on the time of requesting the
- * draw.
+ * Animated sprite, renders the frame depending on the time of its
+ * {@link AnimationClock}.
  *
  * @author Jeroen Roosen 
  */
@@ -31,9 +31,14 @@ public class AnimatedSprite implements Sprite {
     private final boolean looping;
 
     /**
-     * The index of the current frame.
+     * The clock the frames are shown by.
      */
-    private int current;
+    private final AnimationClock clock;
+
+    /**
+     * The index of the frame shown at {@link #since}.
+     */
+    private int startFrame;
 
     /**
      * Whether this sprite is currently animating or not.
@@ -41,9 +46,9 @@ public class AnimatedSprite implements Sprite {
     private boolean animating;
 
     /**
-     * The {@link System#currentTimeMillis()} stamp of the last update.
+     * The clock time the animation (re)started from {@link #startFrame}.
      */
-    private long lastUpdate;
+    private long since;
 
     /**
      * Creates a new animating sprite that will change frames every interval. By
@@ -73,15 +78,37 @@ public class AnimatedSprite implements Sprite {
      *            Whether or not this sprite is animating from the start.
      */
     public AnimatedSprite(Sprite[] frames, int delay, boolean loop, boolean isAnimating) {
+        this(frames, delay, loop, isAnimating, new AnimationClock());
+    }
+
+    /**
+     * Creates a new animating sprite that will change frames every interval
+     * of a clock.
+     *
+     * @param frames
+     *            The frames of this animation.
+     * @param delay
+     *            The delay between frames.
+     * @param loop
+     *            Whether or not this sprite should be looping.
+     * @param isAnimating
+     *            Whether or not this sprite is animating from the start.
+     * @param clock
+     *            The clock to show the frames by.
+     */
+    public AnimatedSprite(Sprite[] frames, int delay, boolean loop, boolean isAnimating,
+                          AnimationClock clock) {
         assert frames.length > 0;
+        assert clock != null;
 
         this.animationFrames = frames.clone();
         this.animationDelay = delay;
         this.looping = loop;
         this.animating = isAnimating;
+        this.clock = clock;
 
-        this.current = 0;
-        this.lastUpdate = System.currentTimeMillis();
+        this.startFrame = 0;
+        this.since = clock.getTime();
     }
 
     /**
@@ -89,6 +116,7 @@ public class AnimatedSprite implements Sprite {
      */
     private Sprite currentSprite() {
         Sprite result = END_OF_LOOP;
+        int current = currentFrame();
         if (current < animationFrames.length) {
             result = animationFrames[current];
         }
@@ -96,6 +124,24 @@ public class AnimatedSprite implements Sprite {
         return result;
     }
 
+    /**
+     * Computes the index of the frame to show at the time of the clock. A
+     * non-looping animation that has run past its last frame is at index
+     * <code>frames</code>, the end of the loop.
+     *
+     * @return The index of the current frame.
+     */
+    private int currentFrame() {
+        if (!animating || animationDelay <= 0) {
+            return startFrame;
+        }
+        long steps = Math.max(0L, clock.getTime() - since) / animationDelay;
+        if (looping) {
+            return (int) ((startFrame + steps) % animationFrames.length);
+        }
+        return (int) Math.min(startFrame + steps, animationFrames.length);
+    }
+
     /**
      * Starts or stops the animation of this sprite.
      *
@@ -104,50 +150,38 @@ public class AnimatedSprite implements Sprite {
      *            to stop animating this sprite.
      */
     public void setAnimating(boolean isAnimating) {
+        startFrame = currentFrame();
+        since = clock.getTime();
         this.animating = isAnimating;
     }
 
+    /**
+     * @return <code>true</code> iff this sprite is currently animating, i.e.
+     *         may show a different frame the next time it is drawn.
+     */
+    public boolean isAnimating() {
+        return animating && (looping || currentFrame() < animationFrames.length);
+    }
+
     /**
      * (Re)starts the current animation.
      */
     public void restart() {
-        this.current = 0;
-        this.lastUpdate = System.currentTimeMillis();
-        setAnimating(true);
+        this.startFrame = 0;
+        this.since = clock.getTime();
+        this.animating = true;
     }
 
     @Override
     public void draw(Graphics graphics, int x, int y, int width, int height) {
-        update();
         currentSprite().draw(graphics, x, y, width, height);
     }
 
     @Override
     public Sprite split(int x, int y, int width, int height) {
-        update();
         return currentSprite().split(x, y, width, height);
     }
 
-    /**
-     * Updates the current frame index depending on the current system time.
-     */
-    private void update() {
-        long now = System.currentTimeMillis();
-        if (animating) {
-            while (lastUpdate < now) {
-                lastUpdate += animationDelay;
-                current++;
-                if (looping) {
-                    current %= animationFrames.length;
-                } else if (current == animationFrames.length) {
-                    animating = false;
-                }
-            }
-        } else {
-            lastUpdate = now;
-        }
-    }
-
     @Override
     public int getWidth() {
         assert currentSprite() != null;
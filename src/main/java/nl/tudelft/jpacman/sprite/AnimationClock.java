@@ -0,0 +1,54 @@
+package nl.tudelft.jpacman.sprite;
+
+/**
+ * The time animations are shown at. The clock is advanced once per rendered
+ * frame, so all {@link AnimatedSprite}s drawn in a frame show the same
+ * moment, without each of them asking the system for the time.
+ *
+ * <p>
+ * A clock that has never been ticked follows the system time, so sprites
+ * keep animating when nobody drives their clock.
+ * </p>
+ */
+public class AnimationClock {
+
+    /**
+     * The time of the last tick, in milliseconds.
+     */
+    private volatile long time;
+
+    /**
+     * Whether the clock has been ticked.
+     */
+    private volatile boolean ticked;
+
+    /**
+     * Advances the clock to the current system time.
+     */
+    public void tick() {
+        tick(System.currentTimeMillis());
+    }
+
+    /**
+     * Advances the clock to the given time, e.g. the virtual time of a game
+     * that does not run in real time.
+     *
+     * @param millis
+     *            The time of this tick, in milliseconds.
+     */
+    public void tick(long millis) {
+        time = millis;
+        ticked = true;
+    }
+
+    /**
+     * @return The time of the last tick, or the system time if the clock has
+     *         never been ticked, in milliseconds.
+     */
+    public long getTime() {
+        if (ticked) {
+            return time;
+        }
+        return System.currentTimeMillis();
+    }
+}
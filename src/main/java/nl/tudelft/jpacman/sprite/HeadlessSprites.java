@@ -0,0 +1,29 @@
+package nl.tudelft.jpacman.sprite;
+
+/**
+ * Sprite store of which all sprites are empty. It loads no images at all, so
+ * it can be used to create games that are never drawn, for instance to
+ * simulate them without a graphics environment.
+ */
+public class HeadlessSprites extends PacManSprites {
+
+    /**
+     * The sprite every resource is loaded as.
+     */
+    private static final Sprite EMPTY = new EmptySprite();
+
+    @Override
+    public void preload() {
+        // nothing to load.
+    }
+
+    /**
+     * Returns an empty sprite for every resource.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Sprite loadSprite(String resource) {
+        return EMPTY;
+    }
+}
@@ -4,12 +4,21 @@ import java.awt.Graphics;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Rectangle;
 import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Basic implementation of a Sprite, it merely consists of a static image.
  *
+ * <p>
+ * Sprites are drawn at the same size over and over again, so the image
+ * scaled to the size it was last drawn at is kept. Drawing it again at that
+ * size is a plain copy; drawing it at another size replaces the scaled image.
+ * </p>
+ *
  * @author Jeroen Roosen 
  */
 public class ImageSprite implements Sprite {
@@ -19,6 +28,11 @@ public class ImageSprite implements Sprite {
      */
     private final Image image;
 
+    /**
+     * The image scaled to the size it was last drawn at, if any.
+     */
+    private volatile @Nullable ScaledImage scaled;
+
     /**
      * Creates a new sprite from an image.
      *
@@ -31,8 +45,16 @@ public class ImageSprite implements Sprite {
 
     @Override
     public void draw(Graphics graphics, int x, int y, int width, int height) {
-        graphics.drawImage(image, x, y, x + width, y + height, 0, 0,
-            image.getWidth(null), image.getHeight(null), null);
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        ScaledImage current = scaled;
+        if (current == null || !current.hasSize(width, height)) {
+            current = ScaledImage.scale(graphics, image,
+                new Rectangle(image.getWidth(null), image.getHeight(null)), width, height);
+            scaled = current;
+        }
+        graphics.drawImage(current.getImage(), x, y, null);
     }
 
     @Override
@@ -77,5 +99,4 @@ public class ImageSprite implements Sprite {
     public int getHeight() {
         return image.getHeight(null);
     }
-
 }
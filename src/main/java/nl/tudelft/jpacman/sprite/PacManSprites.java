@@ -1,7 +1,10 @@
 package nl.tudelft.jpacman.sprite;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import nl.tudelft.jpacman.PacmanConfigurationException;
@@ -11,6 +14,13 @@ import nl.tudelft.jpacman.npc.ghost.GhostColor;
 /**
  * Sprite Store containing the classic Pac-Man sprites.
  *
+ * <p>
+ * All sprites of the game are packed into a single {@link SpriteAtlas}, so
+ * they share one image surface and their animation frames are regions of it
+ * rather than copies. The atlas is loaded in the background once
+ * {@link #preload()} is called, or the first time a sprite is needed.
+ * </p>
+ *
  * @author Jeroen Roosen 
  */
 public class PacManSprites extends SpriteStore {
@@ -51,6 +61,41 @@ public class PacManSprites extends SpriteStore {
      */
     private static final int ANIMATION_DELAY = 200;
 
+    /**
+     * The resources of all sprites of the game, packed into the atlas.
+     */
+    private static final List<String> ATLAS_RESOURCES = atlasResources();
+
+    /**
+     * Whether loading the atlas has been started.
+     */
+    private volatile boolean preloaded;
+
+    /**
+     * @return The resources of all sprites of the game.
+     */
+    private static List<String> atlasResources() {
+        List<String> resources = new ArrayList<>();
+        resources.add("/sprite/pacman.png");
+        resources.add("/sprite/dead.png");
+        for (GhostColor color : GhostColor.values()) {
+            resources.add(ghostResource(color));
+        }
+        resources.add("/sprite/wall.png");
+        resources.add("/sprite/floor.png");
+        resources.add("/sprite/pellet.png");
+        return Collections.unmodifiableList(resources);
+    }
+
+    /**
+     * Starts loading all sprites of the game in the background, so that they
+     * are (about) ready by the time the game asks for them.
+     */
+    public void preload() {
+        preloaded = true;
+        preloadAtlas(ATLAS_RESOURCES);
+    }
+
     /**
      * @return A map of animated Pac-Man sprites for all directions.
      */
@@ -107,9 +152,16 @@ public class PacManSprites extends SpriteStore {
     public Map<Direction, Sprite> getGhostSprite(GhostColor color) {
         assert color != null;
 
-        String resource = "/sprite/ghost_" + color.name().toLowerCase()
-            + ".png";
-        return directionSprite(resource, GHOST_ANIMATION_FRAMES);
+        return directionSprite(ghostResource(color), GHOST_ANIMATION_FRAMES);
+    }
+
+    /**
+     * @param color
+     *            The colour of the ghost.
+     * @return The resource name of the sprite of the ghost.
+     */
+    private static String ghostResource(GhostColor color) {
+        return "/sprite/ghost_" + color.name().toLowerCase() + ".png";
     }
 
     /**
@@ -143,6 +195,9 @@ public class PacManSprites extends SpriteStore {
     @Override
     public Sprite loadSprite(String resource) {
         try {
+            if (!preloaded) {
+                preload();
+            }
             return super.loadSprite(resource);
         } catch (IOException e) {
             throw new PacmanConfigurationException("Unable to load sprite: " + resource, e);
@@ -0,0 +1,101 @@
+package nl.tudelft.jpacman.sprite;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * (A region of) an image scaled to a specific size, kept by sprites that are
+ * drawn at the same size over and over again, so that drawing them is a
+ * plain copy rather than a scaling operation.
+ */
+final class ScaledImage {
+
+    /**
+     * The scaled image.
+     */
+    private final Image image;
+
+    /**
+     * The width the image was scaled to.
+     */
+    private final int width;
+
+    /**
+     * The height the image was scaled to.
+     */
+    private final int height;
+
+    /**
+     * Creates a new scaled image.
+     *
+     * @param image
+     *            The scaled image.
+     * @param width
+     *            The width the image was scaled to.
+     * @param height
+     *            The height the image was scaled to.
+     */
+    private ScaledImage(Image image, int width, int height) {
+        this.image = image;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @param scaledWidth
+     *            The width to draw at.
+     * @param scaledHeight
+     *            The height to draw at.
+     * @return <code>true</code> iff the image was scaled to the given size.
+     */
+    boolean hasSize(int scaledWidth, int scaledHeight) {
+        return width == scaledWidth && height == scaledHeight;
+    }
+
+    /**
+     * @return The scaled image.
+     */
+    Image getImage() {
+        return image;
+    }
+
+    /**
+     * Scales a region of an image to the given size, into an image that is
+     * compatible with the device the graphics context draws on.
+     *
+     * @param graphics
+     *            The graphics context the image will be drawn on.
+     * @param source
+     *            The image to scale a region of.
+     * @param region
+     *            The region of the image to scale.
+     * @param scaledWidth
+     *            The width to scale to.
+     * @param scaledHeight
+     *            The height to scale to.
+     * @return The scaled region.
+     */
+    static ScaledImage scale(Graphics graphics, Image source, Rectangle region,
+                             int scaledWidth, int scaledHeight) {
+        int transparency = Transparency.TRANSLUCENT;
+        if (source instanceof BufferedImage) {
+            transparency = ((BufferedImage) source).getTransparency();
+        }
+        BufferedImage result;
+        if (graphics instanceof Graphics2D) {
+            result = ((Graphics2D) graphics).getDeviceConfiguration()
+                .createCompatibleImage(scaledWidth, scaledHeight, transparency);
+        } else {
+            result = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics target = result.getGraphics();
+        target.drawImage(source, 0, 0, scaledWidth, scaledHeight, region.x, region.y,
+            region.x + region.width, region.y + region.height, null);
+        target.dispose();
+        return new ScaledImage(result, scaledWidth, scaledHeight);
+    }
+}
@@ -0,0 +1,246 @@
+package nl.tudelft.jpacman.sprite;
+
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A single image holding many smaller images, packed next to each other.
+ * Every packed image is available as a sprite that draws its region of the
+ * atlas, so all of them share one (accelerated) image surface and splitting
+ * such a sprite, for instance into the frames of an animation, does not copy
+ * any pixels. Like an {@link ImageSprite}, every sprite keeps its region
+ * scaled to the size it was last drawn at.
+ *
+ * <p>
+ * Images are packed on shelves: sorted by height, they are placed from left
+ * to right, starting a new shelf below the previous one when a row is full.
+ * </p>
+ */
+public final class SpriteAtlas {
+
+    /**
+     * The image all sprites are packed into.
+     */
+    private final BufferedImage image;
+
+    /**
+     * The sprites, in the order the images were given in.
+     */
+    private final List<Sprite> sprites;
+
+    private SpriteAtlas(BufferedImage image, List<Sprite> sprites) {
+        this.image = image;
+        this.sprites = Collections.unmodifiableList(sprites);
+    }
+
+    /**
+     * Packs images into a new atlas.
+     *
+     * @param images
+     *            The images to pack.
+     * @return The atlas holding all images.
+     */
+    public static SpriteAtlas pack(List<? extends Image> images) {
+        assert images != null;
+
+        int count = images.size();
+        int[] widths = new int[count];
+        int[] heights = new int[count];
+        List<Integer> order = new ArrayList<>();
+        long area = 0;
+        int atlasWidth = 1;
+        int transparency = Transparency.OPAQUE;
+        for (int i = 0; i < count; i++) {
+            Image source = images.get(i);
+            widths[i] = source.getWidth(null);
+            heights[i] = source.getHeight(null);
+            area += (long) widths[i] * heights[i];
+            atlasWidth = Math.max(atlasWidth, widths[i]);
+            transparency = Math.max(transparency, transparencyOf(source));
+            order.add(i);
+        }
+        atlasWidth = Math.max(atlasWidth, (int) Math.ceil(Math.sqrt(area)));
+        order.sort(Comparator.comparingInt((Integer i) -> heights[i]).reversed());
+
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (int i : order) {
+            if (shelfX + widths[i] > atlasWidth) {
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            xs[i] = shelfX;
+            ys[i] = shelfY;
+            shelfX += widths[i];
+            shelfHeight = Math.max(shelfHeight, heights[i]);
+        }
+
+        BufferedImage atlas = newImage(atlasWidth, Math.max(1, shelfY + shelfHeight),
+            transparency);
+        Graphics graphics = atlas.getGraphics();
+        List<Sprite> sprites = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            graphics.drawImage(images.get(i), xs[i], ys[i], null);
+            sprites.add(new AtlasSprite(atlas, xs[i], ys[i], widths[i], heights[i]));
+        }
+        graphics.dispose();
+        return new SpriteAtlas(atlas, sprites);
+    }
+
+    private static int transparencyOf(Image image) {
+        if (image instanceof BufferedImage) {
+            return ((BufferedImage) image).getTransparency();
+        }
+        return Transparency.TRANSLUCENT;
+    }
+
+    /**
+     * Creates a new, empty image for the atlas, compatible with the screen
+     * if there is one.
+     *
+     * @param width
+     *            The width of the new image.
+     * @param height
+     *            The height of the new image.
+     * @param transparency
+     *            The transparency the images packed into it need.
+     * @return The new, empty image.
+     */
+    private static BufferedImage newImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        GraphicsConfiguration gc = GraphicsEnvironment
+            .getLocalGraphicsEnvironment().getDefaultScreenDevice()
+            .getDefaultConfiguration();
+        return gc.createCompatibleImage(width, height, transparency);
+    }
+
+    /**
+     * @return The image all sprites are packed into.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * @return The sprites of the packed images, in the order the images were
+     *         given in.
+     */
+    public List<Sprite> getSprites() {
+        return sprites;
+    }
+
+    /**
+     * A sprite drawing a region of an atlas.
+     */
+    static final class AtlasSprite implements Sprite {
+
+        /**
+         * The atlas image.
+         */
+        private final Image atlas;
+
+        /**
+         * The x coordinate of the region.
+         */
+        private final int x;
+
+        /**
+         * The y coordinate of the region.
+         */
+        private final int y;
+
+        /**
+         * The width of the region.
+         */
+        private final int width;
+
+        /**
+         * The height of the region.
+         */
+        private final int height;
+
+        /**
+         * The region scaled to the size it was last drawn at, if any.
+         */
+        private volatile @Nullable ScaledImage scaled;
+
+        /**
+         * Creates a new sprite drawing a region of an atlas.
+         *
+         * @param atlas
+         *            The atlas image.
+         * @param x
+         *            The x coordinate of the region.
+         * @param y
+         *            The y coordinate of the region.
+         * @param width
+         *            The width of the region.
+         * @param height
+         *            The height of the region.
+         */
+        AtlasSprite(Image atlas, int x, int y, int width, int height) {
+            this.atlas = atlas;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public void draw(Graphics graphics, int destX, int destY, int destWidth,
+                         int destHeight) {
+            if (destWidth <= 0 || destHeight <= 0) {
+                return;
+            }
+            ScaledImage current = scaled;
+            if (current == null || !current.hasSize(destWidth, destHeight)) {
+                current = ScaledImage.scale(graphics, atlas, getRegion(), destWidth, destHeight);
+                scaled = current;
+            }
+            graphics.drawImage(current.getImage(), destX, destY, null);
+        }
+
+        @Override
+        public Sprite split(int splitX, int splitY, int splitWidth, int splitHeight) {
+            if (splitX >= 0 && splitY >= 0 && splitWidth > 0 && splitHeight > 0
+                && splitX + splitWidth <= width && splitY + splitHeight <= height) {
+                return new AtlasSprite(atlas, x + splitX, y + splitY, splitWidth, splitHeight);
+            }
+            return new EmptySprite();
+        }
+
+        /**
+         * @return The region of the atlas this sprite draws.
+         */
+        Rectangle getRegion() {
+            return new Rectangle(x, y, width, height);
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+    }
+}
@@ -3,35 +3,73 @@ package nl.tudelft.jpacman.sprite;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.imageio.ImageIO;
 
 /**
  * Utility to load {@link Sprite}s.
  *
+ * <p>
+ * Sprites can be preloaded: their images are then decoded in parallel in
+ * the background, and {@link #loadSprite(String)} only waits for the sprite
+ * asked for. The store may be used from several threads.
+ * </p>
+ *
  * @author Jeroen Roosen 
  */
 public class SpriteStore {
 
     /**
      * We only need to load images once, so we keep track
-     * of them in a hash map.
+     * of them in a hash map. Sprites that are (pre)loading are
+     * in it as well, so every resource is loaded only once.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Sprite>> spriteMap;
+
+    /**
+     * The clock all animations of this store are shown by.
      */
-    private final Map<String, Sprite> spriteMap;
+    private final AnimationClock animationClock;
 
     /**
      * Create a new sprite store.
      */
     public SpriteStore() {
-        spriteMap = new HashMap<>();
+        this(new AnimationClock());
+    }
+
+    /**
+     * Create a new sprite store, of which the animations are shown by the
+     * given clock.
+     *
+     * @param clock
+     *            The clock to show the animations by.
+     */
+    public SpriteStore(AnimationClock clock) {
+        spriteMap = new ConcurrentHashMap<>();
+        animationClock = clock;
+    }
+
+    /**
+     * @return The clock all animations of this store are shown by. It should
+     *         be ticked once per rendered frame.
+     */
+    public AnimationClock getAnimationClock() {
+        return animationClock;
     }
 
     /**
      * Loads a sprite from a resource on the class path.
      * Sprites are loaded once, and then stored in the store
-     * so that they can be efficiently retrieved.
+     * so that they can be efficiently retrieved. If the sprite is
+     * being preloaded, this method waits for it to be done.
      *
      * @param resource
      *            The resource path.
@@ -40,12 +78,104 @@ public class SpriteStore {
      *             When the resource could not be loaded.
      */
     public Sprite loadSprite(String resource) throws IOException {
-        Sprite result = spriteMap.get(resource);
+        CompletableFuture<Sprite> result = spriteMap.get(resource);
         if (result == null) {
-            result = loadSpriteFromResource(resource);
-            spriteMap.put(resource, result);
+            CompletableFuture<Sprite> loading = new CompletableFuture<>();
+            result = spriteMap.putIfAbsent(resource, loading);
+            if (result == null) {
+                result = loading;
+                try {
+                    loading.complete(loadSpriteFromResource(resource));
+                } catch (IOException e) {
+                    loading.completeExceptionally(new UncheckedIOException(e));
+                }
+            }
+        }
+        return await(resource, result);
+    }
+
+    /**
+     * Starts loading sprites from resources on the class path in the
+     * background, decoding them in parallel. Resources that are loaded (or
+     * loading) already are left as they are.
+     *
+     * @param resources
+     *            The resource paths.
+     */
+    public void preload(List<String> resources) {
+        for (String resource : resources) {
+            if (!spriteMap.containsKey(resource)) {
+                spriteMap.computeIfAbsent(resource, r -> CompletableFuture.supplyAsync(
+                    () -> new ImageSprite(loadImageUnchecked(r))));
+            }
+        }
+    }
+
+    /**
+     * Starts loading sprites from resources on the class path in the
+     * background, packed together into a single {@link SpriteAtlas}. The
+     * images are decoded in parallel, and {@link #loadSprite(String)} returns
+     * the packed sprites once all of them are. Resources that are loaded (or
+     * loading) already are left as they are.
+     *
+     * @param resources
+     *            The resource paths.
+     */
+    public void preloadAtlas(List<String> resources) {
+        List<CompletableFuture<Sprite>> sprites = new ArrayList<>();
+        List<CompletableFuture<BufferedImage>> images = new ArrayList<>();
+        for (String resource : resources) {
+            CompletableFuture<Sprite> sprite = new CompletableFuture<>();
+            if (spriteMap.putIfAbsent(resource, sprite) == null) {
+                sprites.add(sprite);
+                images.add(CompletableFuture.supplyAsync(() -> loadImageUnchecked(resource)));
+            }
+        }
+        if (sprites.isEmpty()) {
+            return;
+        }
+        CompletableFuture.allOf(images.toArray(new CompletableFuture<?>[images.size()]))
+            .thenApply(done -> {
+                List<BufferedImage> decoded = new ArrayList<>();
+                for (CompletableFuture<BufferedImage> image : images) {
+                    decoded.add(image.join());
+                }
+                return SpriteAtlas.pack(decoded).getSprites();
+            })
+            .whenComplete((packed, failure) -> {
+                for (int i = 0; i < sprites.size(); i++) {
+                    if (failure == null) {
+                        sprites.get(i).complete(packed.get(i));
+                    } else {
+                        sprites.get(i).completeExceptionally(failure);
+                    }
+                }
+            });
+    }
+
+    /**
+     * Waits for a sprite to be loaded. A sprite that failed to load is
+     * forgotten, so that loading it again tries again.
+     *
+     * @param resource
+     *            The resource path.
+     * @param sprite
+     *            The sprite being loaded.
+     * @return The loaded sprite.
+     * @throws IOException
+     *             When the resource could not be loaded.
+     */
+    private Sprite await(String resource, CompletableFuture<Sprite> sprite)
+        throws IOException {
+        try {
+            return sprite.join();
+        } catch (CompletionException e) {
+            spriteMap.remove(resource, sprite);
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
         }
-        return result;
     }
 
     /**
@@ -58,17 +188,38 @@ public class SpriteStore {
      *             When the resource could not be loaded.
      */
     private Sprite loadSpriteFromResource(String resource) throws IOException {
+        return new ImageSprite(loadImage(resource));
+    }
+
+    /**
+     * Loads an image from a resource on the class path.
+     *
+     * @param resource
+     *            The resource path.
+     * @return The image of the resource.
+     * @throws IOException
+     *             When the resource could not be loaded.
+     */
+    private static BufferedImage loadImage(String resource) throws IOException {
         try (InputStream input = SpriteStore.class.getResourceAsStream(resource)) {
             if (input == null) {
                 throw new IOException("Unable to load " + resource + ", resource does not exist.");
             }
-            BufferedImage image = ImageIO.read(input);
-            return new ImageSprite(image);
+            return ImageIO.read(input);
+        }
+    }
+
+    private static BufferedImage loadImageUnchecked(String resource) {
+        try {
+            return loadImage(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
     /**
-     * Creates a new {@link AnimatedSprite} from a base image.
+     * Creates a new {@link AnimatedSprite} from a base image, shown by the
+     * clock of this store.
      *
      * @param baseImage
      *            The base image to convert into an animation.
@@ -93,7 +244,7 @@ public class SpriteStore {
                 baseImage.getHeight());
         }
 
-        return new AnimatedSprite(animation, delay, loop);
+        return new AnimatedSprite(animation, delay, loop, false, animationClock);
     }
 
 }
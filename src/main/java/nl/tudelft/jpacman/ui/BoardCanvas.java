@@ -0,0 +1,102 @@
+package nl.tudelft.jpacman.ui;
+
+import java.awt.Canvas;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+import nl.tudelft.jpacman.game.Game;
+
+/**
+ * Canvas displaying a game by active rendering: every frame is drawn by the
+ * thread refreshing it, straight into a {@link BufferStrategy}, rather than
+ * being painted by Swing on the event dispatch thread. Frames in which
+ * nothing changed are skipped altogether.
+ */
+class BoardCanvas extends Canvas implements BoardView {
+
+    /**
+     * Default serialisation ID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of buffers to flip between.
+     */
+    private static final int BUFFERS = 2;
+
+    /**
+     * The renderer drawing the board.
+     */
+    private final transient BoardRenderer renderer;
+
+    /**
+     * <code>true</code> iff the window system asked for the canvas to be
+     * painted since the last frame, e.g. because it was uncovered.
+     */
+    private volatile boolean exposed;
+
+    /**
+     * Creates a new board canvas that will display the provided game.
+     *
+     * @param game
+     *            The game to display.
+     */
+    BoardCanvas(Game game) {
+        super();
+        assert game != null;
+        this.renderer = new BoardRenderer(game);
+        this.exposed = true;
+
+        Dimension size = BoardRenderer.preferredSize(game.getLevel().getBoard());
+        setMinimumSize(size);
+        setPreferredSize(size);
+    }
+
+    /**
+     * Draws a frame, if anything changed since the previous one. Should
+     * always be called from the same thread.
+     *
+     * @return <code>false</code> iff the frame was skipped.
+     */
+    @Override
+    public boolean refresh() {
+        Dimension size = getSize();
+        if (!isDisplayable() || size.width == 0 || size.height == 0) {
+            return false;
+        }
+        boolean changed = !renderer.collectChanges().isEmpty()
+            || renderer.needsFullRender(size);
+        if (!changed && !exposed) {
+            return false;
+        }
+        exposed = false;
+
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            createBufferStrategy(BUFFERS);
+            strategy = getBufferStrategy();
+        }
+        do {
+            do {
+                Graphics graphics = strategy.getDrawGraphics();
+                renderer.render(graphics, size);
+                graphics.dispose();
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        exposed = true;
+    }
+
+    @Override
+    public void update(Graphics g) {
+        exposed = true;
+    }
+}
@@ -1,23 +1,27 @@
 package nl.tudelft.jpacman.ui;
 
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.util.List;
 
 import javax.swing.JPanel;
 
 import nl.tudelft.jpacman.board.Board;
 import nl.tudelft.jpacman.board.Square;
-import nl.tudelft.jpacman.board.Unit;
 import nl.tudelft.jpacman.game.Game;
 
 /**
  * Panel displaying a game.
  *
+ * <p>
+ * Every frame only the squares that changed are repainted, see
+ * {@link BoardRenderer}.
+ * </p>
+ *
  * @author Jeroen Roosen 
  *
  */
-class BoardPanel extends JPanel {
+class BoardPanel extends JPanel implements BoardView {
 
     /**
      * Default serialisation ID.
@@ -25,20 +29,9 @@ class BoardPanel extends JPanel {
     private static final long serialVersionUID = 1L;
 
     /**
-     * The background colour of the board.
-     */
-    private static final Color BACKGROUND_COLOR = Color.BLACK;
-
-    /**
-     * The size (in pixels) of a square on the board. The initial size of this
-     * panel will scale to fit a board with square of this size.
-     */
-    private static final int SQUARE_SIZE = 16;
-
-    /**
-     * The game to display.
+     * The renderer drawing the board.
      */
-    private final Game game;
+    private final transient BoardRenderer renderer;
 
     /**
      * Creates a new board panel that will display the provided game.
@@ -49,72 +42,39 @@ class BoardPanel extends JPanel {
     BoardPanel(Game game) {
         super();
         assert game != null;
-        this.game = game;
+        this.renderer = new BoardRenderer(game);
 
-        Board board = game.getLevel().getBoard();
-
-        int w = board.getWidth() * SQUARE_SIZE;
-        int h = board.getHeight() * SQUARE_SIZE;
-
-        Dimension size = new Dimension(w, h);
+        Dimension size = BoardRenderer.preferredSize(game.getLevel().getBoard());
         setMinimumSize(size);
         setPreferredSize(size);
     }
 
-    @Override
-    public void paint(Graphics g) {
-        assert g != null;
-        render(game.getLevel().getBoard(), g, getSize());
-    }
-
     /**
-     * Renders the board on the given graphics context to the given dimensions.
+     * Requests the squares that changed since the previous frame, and the
+     * squares showing an animation, to be painted again. Can be called from
+     * any thread.
      *
-     * @param board
-     *            The board to render.
-     * @param graphics
-     *            The graphics context to draw on.
-     * @param window
-     *            The dimensions to scale the rendered board to.
+     * @return <code>false</code> iff no square needs to be painted again.
      */
-    private void render(Board board, Graphics graphics, Dimension window) {
-        int cellW = window.width / board.getWidth();
-        int cellH = window.height / board.getHeight();
-
-        graphics.setColor(BACKGROUND_COLOR);
-        graphics.fillRect(0, 0, window.width, window.height);
-
-        for (int y = 0; y < board.getHeight(); y++) {
-            for (int x = 0; x < board.getWidth(); x++) {
-                int cellX = x * cellW;
-                int cellY = y * cellH;
-                Square square = board.squareAt(x, y);
-                render(square, graphics, cellX, cellY, cellW, cellH);
-            }
+    @Override
+    public boolean refresh() {
+        List<Square> toRepaint = renderer.collectChanges();
+        Board board = renderer.getBoard();
+        int cellW = getWidth() / board.getWidth();
+        int cellH = getHeight() / board.getHeight();
+        if (renderer.needsFullRender(getSize()) || cellW == 0 || cellH == 0) {
+            repaint();
+            return true;
+        }
+        for (Square square : toRepaint) {
+            repaint(square.getX() * cellW, square.getY() * cellH, cellW, cellH);
         }
+        return !toRepaint.isEmpty();
     }
 
-    /**
-     * Renders a single square on the given graphics context on the specified
-     * rectangle.
-     *
-     * @param square
-     *            The square to render.
-     * @param graphics
-     *            The graphics context to draw on.
-     * @param x
-     *            The x position to start drawing.
-     * @param y
-     *            The y position to start drawing.
-     * @param width
-     *            The width of this square (in pixels.)
-     * @param height
-     *            The height of this square (in pixels.)
-     */
-    private void render(Square square, Graphics graphics, int x, int y, int width, int height) {
-        square.getSprite().draw(graphics, x, y, width, height);
-        for (Unit unit : square.getOccupants()) {
-            unit.getSprite().draw(graphics, x, y, width, height);
-        }
+    @Override
+    public void paint(Graphics g) {
+        assert g != null;
+        renderer.render(g, getSize());
     }
 }
@@ -0,0 +1,281 @@
+package nl.tudelft.jpacman.ui;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.game.Game;
+import nl.tudelft.jpacman.sprite.AnimatedSprite;
+import nl.tudelft.jpacman.sprite.Sprite;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Draws the board of a game, keeping the drawn board in an image between
+ * frames. Every frame only the squares of which the occupants changed, and
+ * the squares showing an animation, are drawn again. Their terrain is copied
+ * from a layer that is only drawn when the size of the board changes.
+ */
+final class BoardRenderer {
+
+    /**
+     * The background colour of the board.
+     */
+    private static final Color BACKGROUND_COLOR = Color.BLACK;
+
+    /**
+     * The size (in pixels) of a square on the board. The initial size of the
+     * component displaying the board will scale to fit a board with squares
+     * of this size.
+     */
+    private static final int SQUARE_SIZE = 16;
+
+    /**
+     * The game to display.
+     */
+    private final Game game;
+
+    /**
+     * The board as drawn so far, or <code>null</code> if nothing has been
+     * drawn yet.
+     */
+    private @Nullable BufferedImage image;
+
+    /**
+     * The squares of the board drawn on the {@link #image}, without their
+     * occupants. Squares never change their looks, so this layer is only
+     * drawn again when the size changes or a new board is shown.
+     */
+    private @Nullable BufferedImage terrain;
+
+    /**
+     * The board drawn on the {@link #image}.
+     */
+    private volatile @Nullable Board drawnBoard;
+
+    /**
+     * The squares to draw again on the next render. Also guards
+     * {@link #animated}.
+     */
+    private final Set<Square> pending = new HashSet<>();
+
+    /**
+     * The squares that showed an animating sprite when last drawn.
+     */
+    private final Set<Square> animated = new HashSet<>();
+
+    /**
+     * Creates a new renderer for the board of the game.
+     *
+     * @param game
+     *            The game to display.
+     */
+    BoardRenderer(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Returns the size of a component displaying the board with squares of
+     * the default size.
+     *
+     * @param board
+     *            The board to display.
+     * @return The preferred size of a component displaying the board.
+     */
+    static Dimension preferredSize(Board board) {
+        return new Dimension(board.getWidth() * SQUARE_SIZE, board.getHeight() * SQUARE_SIZE);
+    }
+
+    /**
+     * @return The board currently displayed.
+     */
+    Board getBoard() {
+        return game.getLevel().getBoard();
+    }
+
+    /**
+     * Collects the squares that changed since the previous frame, and the
+     * squares showing an animation, to be drawn on the next render. Can be
+     * called from any thread.
+     *
+     * @return The squares to be drawn on the next render.
+     */
+    List<Square> collectChanges() {
+        List<Square> changed = getBoard().takeChangedSquares();
+        synchronized (pending) {
+            pending.addAll(changed);
+            pending.addAll(animated);
+            return new ArrayList<>(pending);
+        }
+    }
+
+    /**
+     * Returns whether the next render draws the whole board, rather than
+     * just the squares that changed.
+     *
+     * @param window
+     *            The dimensions to render the board to.
+     * @return <code>true</code> iff the whole board is drawn again.
+     */
+    boolean needsFullRender(Dimension window) {
+        BufferedImage buffer = image;
+        return buffer == null || getBoard() != drawnBoard
+            || buffer.getWidth() != window.width || buffer.getHeight() != window.height;
+    }
+
+    /**
+     * Brings the drawn board up to date and copies it to the graphics
+     * context.
+     *
+     * @param g
+     *            The graphics context to draw on.
+     * @param window
+     *            The dimensions to render the board to.
+     */
+    void render(Graphics g, Dimension window) {
+        Board board = getBoard();
+        if (window.width < board.getWidth() || window.height < board.getHeight()) {
+            g.setColor(BACKGROUND_COLOR);
+            g.fillRect(0, 0, window.width, window.height);
+            return;
+        }
+
+        BufferedImage buffer = image;
+        BufferedImage layer = terrain;
+        int cellW = window.width / board.getWidth();
+        int cellH = window.height / board.getHeight();
+        if (buffer == null || layer == null || board != drawnBoard
+            || buffer.getWidth() != window.width || buffer.getHeight() != window.height) {
+            synchronized (pending) {
+                pending.clear();
+                animated.clear();
+            }
+            layer = renderTerrain(board, window);
+            buffer = new BufferedImage(window.width, window.height, BufferedImage.TYPE_INT_RGB);
+            Graphics graphics = buffer.getGraphics();
+            graphics.drawImage(layer, 0, 0, null);
+            for (int y = 0; y < board.getHeight(); y++) {
+                for (int x = 0; x < board.getWidth(); x++) {
+                    renderOccupants(board.squareAt(x, y), graphics,
+                        x * cellW, y * cellH, cellW, cellH);
+                }
+            }
+            graphics.dispose();
+            terrain = layer;
+            image = buffer;
+            drawnBoard = board;
+        } else {
+            List<Square> toDraw;
+            synchronized (pending) {
+                toDraw = new ArrayList<>(pending);
+                pending.clear();
+            }
+            Graphics graphics = buffer.getGraphics();
+            for (Square square : toDraw) {
+                int x = square.getX() * cellW;
+                int y = square.getY() * cellH;
+                graphics.drawImage(layer, x, y, x + cellW, y + cellH,
+                    x, y, x + cellW, y + cellH, null);
+                renderOccupants(square, graphics, x, y, cellW, cellH);
+            }
+            graphics.dispose();
+        }
+        g.drawImage(buffer, 0, 0, null);
+    }
+
+    /**
+     * Renders the squares of the board, without their occupants, onto a new
+     * image of the given dimensions.
+     *
+     * @param board
+     *            The board to render.
+     * @param window
+     *            The dimensions to scale the rendered board to.
+     * @return The image of the terrain of the board.
+     */
+    private static BufferedImage renderTerrain(Board board, Dimension window) {
+        int cellW = window.width / board.getWidth();
+        int cellH = window.height / board.getHeight();
+
+        BufferedImage layer = new BufferedImage(window.width, window.height,
+            BufferedImage.TYPE_INT_RGB);
+        Graphics graphics = layer.getGraphics();
+        graphics.setColor(BACKGROUND_COLOR);
+        graphics.fillRect(0, 0, window.width, window.height);
+
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                int cellX = x * cellW;
+                int cellY = y * cellH;
+                Square square = board.squareAt(x, y);
+                square.getSprite().draw(graphics, cellX, cellY, cellW, cellH);
+            }
+        }
+        graphics.dispose();
+        return layer;
+    }
+
+    /**
+     * Renders the occupants of a single square on the given graphics context
+     * on the specified rectangle, on top of the terrain already drawn there.
+     *
+     * @param square
+     *            The square to render.
+     * @param graphics
+     *            The graphics context to draw on.
+     * @param x
+     *            The x position to start drawing.
+     * @param y
+     *            The y position to start drawing.
+     * @param width
+     *            The width of this square (in pixels.)
+     * @param height
+     *            The height of this square (in pixels.)
+     */
+    private void renderOccupants(Square square, Graphics graphics, int x, int y, int width,
+                                 int height) {
+        boolean animating = false;
+        for (Unit unit : square.getOccupants()) {
+            animating |= draw(unit.getSprite(), graphics, x, y, width, height);
+        }
+        synchronized (pending) {
+            if (animating) {
+                animated.add(square);
+            } else {
+                animated.remove(square);
+            }
+        }
+    }
+
+    /**
+     * Draws a sprite on the given graphics context on the specified
+     * rectangle.
+     *
+     * @param sprite
+     *            The sprite to draw.
+     * @param graphics
+     *            The graphics context to draw on.
+     * @param x
+     *            The x position to start drawing.
+     * @param y
+     *            The y position to start drawing.
+     * @param width
+     *            The width of the rectangle (in pixels.)
+     * @param height
+     *            The height of the rectangle (in pixels.)
+     * @return <code>true</code> iff the sprite is animating, and should hence
+     *         be drawn again on the next frame.
+     */
+    private static boolean draw(Sprite sprite, Graphics graphics, int x, int y, int width,
+                                int height) {
+        sprite.draw(graphics, x, y, width, height);
+        return sprite instanceof AnimatedSprite && ((AnimatedSprite) sprite).isAnimating();
+    }
+}
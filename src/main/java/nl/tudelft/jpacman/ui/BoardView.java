@@ -0,0 +1,16 @@
+package nl.tudelft.jpacman.ui;
+
+/**
+ * A component displaying the board of a game, which is refreshed every
+ * frame.
+ */
+interface BoardView {
+
+    /**
+     * Brings the displayed board up to date with the game. Can be called from
+     * any thread.
+     *
+     * @return <code>false</code> iff nothing changed, so nothing was drawn.
+     */
+    boolean refresh();
+}
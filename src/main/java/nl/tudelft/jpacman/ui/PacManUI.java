@@ -1,6 +1,7 @@
 package nl.tudelft.jpacman.ui;
 
 import java.awt.BorderLayout;
+import java.awt.Component;
 import java.awt.Container;
 import java.util.Map;
 import java.util.concurrent.Executors;
@@ -12,6 +13,7 @@ import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
 import nl.tudelft.jpacman.game.Game;
+import nl.tudelft.jpacman.sprite.AnimationClock;
 import nl.tudelft.jpacman.ui.ScorePanel.ScoreFormatter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -48,9 +50,50 @@ public class PacManUI extends JFrame {
     private final ScorePanel scorePanel;
 
     /**
-     * The panel displaying the game.
+     * The component displaying the game.
      */
-    private final BoardPanel boardPanel;
+    private final BoardView boardView;
+
+    /**
+     * The target number of frames per second when rendering actively, or 0
+     * to let Swing paint the frames.
+     */
+    private final int framesPerSecond;
+
+    /**
+     * The clock of the animations, advanced every frame.
+     */
+    private final @Nullable AnimationClock animationClock;
+
+    /**
+     * The loop rendering the frames actively, once started.
+     */
+    private @Nullable RenderLoop renderLoop;
+
+    /**
+     * The service asking Swing to paint the frames, once started.
+     */
+    private @Nullable ScheduledExecutorService repaintService;
+
+    /**
+     * Creates a new UI for a JPac-Man game, which is painted by Swing.
+     *
+     * @param game
+     *            The game to play.
+     * @param buttons
+     *            The map of caption-to-action entries that will appear as
+     *            buttons on the interface.
+     * @param keyMappings
+     *            The map of keyCode-to-action entries that will be added as key
+     *            listeners to the interface.
+     * @param scoreFormatter
+     *            The formatter used to display the current score.
+     */
+    public PacManUI(final Game game, final Map<String, Action> buttons,
+                    final Map<Integer, Action> keyMappings,
+                    @Nullable ScoreFormatter scoreFormatter) {
+        this(game, buttons, keyMappings, scoreFormatter, 0, null);
+    }
 
     /**
      * Creates a new UI for a JPac-Man game.
@@ -65,15 +108,22 @@ public class PacManUI extends JFrame {
      *            listeners to the interface.
      * @param scoreFormatter
      *            The formatter used to display the current score.
+     * @param framesPerSecond
+     *            The target number of frames per second to actively render
+     *            the game at, or 0 to let Swing paint it 25 times per second.
+     * @param animationClock
+     *            The clock of the animations to advance every frame, if any.
      */
     @SuppressWarnings("initialization") // requestFocusInWindow called before initialization ends
     public PacManUI(final Game game, final Map<String, Action> buttons,
                     final Map<Integer, Action> keyMappings,
-                    @Nullable ScoreFormatter scoreFormatter) {
+                    @Nullable ScoreFormatter scoreFormatter, int framesPerSecond,
+                    @Nullable AnimationClock animationClock) {
         super("JPac-Man");
         assert game != null;
         assert buttons != null;
         assert keyMappings != null;
+        assert framesPerSecond >= 0;
 
         setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
 
@@ -87,13 +137,24 @@ public class PacManUI extends JFrame {
             scorePanel.setScoreFormatter(scoreFormatter);
         }
 
-        boardPanel = new BoardPanel(game);
+        this.framesPerSecond = framesPerSecond;
+        this.animationClock = animationClock;
+        Component boardComponent;
+        if (framesPerSecond > 0) {
+            BoardCanvas canvas = new BoardCanvas(game);
+            boardComponent = canvas;
+            boardView = canvas;
+        } else {
+            BoardPanel panel = new BoardPanel(game);
+            boardComponent = panel;
+            boardView = panel;
+        }
 
         Container contentPanel = getContentPane();
         contentPanel.setLayout(new BorderLayout());
         contentPanel.add(buttonPanel, BorderLayout.SOUTH);
         contentPanel.add(scorePanel, BorderLayout.NORTH);
-        contentPanel.add(boardPanel, BorderLayout.CENTER);
+        contentPanel.add(boardComponent, BorderLayout.CENTER);
 
         pack();
     }
@@ -104,15 +165,45 @@ public class PacManUI extends JFrame {
      */
     public void start() {
         setVisible(true);
+        if (framesPerSecond > 0) {
+            RenderLoop loop = new RenderLoop(framesPerSecond, this::nextFrame);
+            renderLoop = loop;
+            loop.start();
+            return;
+        }
         ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor();
+        repaintService = service;
         service.scheduleAtFixedRate(this::nextFrame, 0, FRAME_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Stops the "engine" and disposes of the window.
+     */
+    @Override
+    public void dispose() {
+        RenderLoop loop = renderLoop;
+        if (loop != null) {
+            loop.stop();
+        }
+        ScheduledExecutorService service = repaintService;
+        if (service != null) {
+            service.shutdownNow();
+        }
+        super.dispose();
+    }
+
     /**
      * Draws the next frame, i.e. refreshes the scores and game.
+     *
+     * @return <code>false</code> iff the game was not drawn again because
+     *         nothing changed.
      */
-    private void nextFrame() {
-        boardPanel.repaint();
+    private boolean nextFrame() {
+        if (animationClock != null) {
+            animationClock.tick();
+        }
+        boolean drawn = boardView.refresh();
         scorePanel.refresh();
+        return drawn;
     }
 }
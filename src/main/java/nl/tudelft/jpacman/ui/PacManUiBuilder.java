@@ -5,6 +5,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import nl.tudelft.jpacman.game.Game;
+import nl.tudelft.jpacman.sprite.AnimationClock;
 import nl.tudelft.jpacman.ui.ScorePanel.ScoreFormatter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -45,6 +46,17 @@ public class PacManUiBuilder {
      */
     private @Nullable ScoreFormatter scoreFormatter = null;
 
+    /**
+     * The target number of frames per second to actively render at, or 0 to
+     * let Swing paint the game.
+     */
+    private int framesPerSecond;
+
+    /**
+     * The clock of the animations to advance every frame, if any.
+     */
+    private @Nullable AnimationClock animationClock = null;
+
     /**
      * Creates a new Pac-Man UI builder without any mapped keys or buttons.
      */
@@ -68,7 +80,8 @@ public class PacManUiBuilder {
             addStartButton(game);
             addStopButton(game);
         }
-        return new PacManUI(game, buttons, keyMappings, scoreFormatter);
+        return new PacManUI(game, buttons, keyMappings, scoreFormatter, framesPerSecond,
+            animationClock);
     }
 
     /**
@@ -157,4 +170,35 @@ public class PacManUiBuilder {
         this.scoreFormatter = scoreFormatter;
         return this;
     }
+
+    /**
+     * Renders the game actively, drawing frames on a thread of its own
+     * straight to the screen instead of having Swing paint them. Frames in
+     * which nothing changed are skipped.
+     *
+     * @param targetFramesPerSecond
+     *            The target number of frames per second.
+     *
+     * @return The builder.
+     */
+    public PacManUiBuilder withActiveRendering(int targetFramesPerSecond) {
+        assert targetFramesPerSecond > 0;
+        this.framesPerSecond = targetFramesPerSecond;
+        return this;
+    }
+
+    /**
+     * Advances the clock of the animations once every frame, so all sprites
+     * in a frame are drawn at the same moment.
+     *
+     * @param clock
+     *            The clock of the animations, usually the one of the sprite
+     *            store the game was created with.
+     *
+     * @return The builder.
+     */
+    public PacManUiBuilder withAnimationClock(AnimationClock clock) {
+        this.animationClock = clock;
+        return this;
+    }
 }
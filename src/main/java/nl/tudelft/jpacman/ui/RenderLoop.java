@@ -0,0 +1,169 @@
+package nl.tudelft.jpacman.ui;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A thread drawing frames at a steady target rate. Frames are paced by
+ * deadlines rather than by sleeping a fixed interval, so the time it takes
+ * to draw a frame does not add up: each frame is started the smoothed time
+ * it takes to draw one before its deadline, so that it is shown on time.
+ * Frames in which nothing changed are skipped by the frame task and do not
+ * count towards that time. When drawing falls behind by more than a frame,
+ * the missed frames are dropped instead of being drawn in a burst.
+ */
+final class RenderLoop {
+
+    /**
+     * The weight of the latest frame in the average frame time.
+     */
+    private static final double SMOOTHING = 0.1;
+
+    /**
+     * The clock of the system.
+     */
+    private static final Clock SYSTEM_CLOCK = new Clock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void parkNanos(long nanos) {
+            LockSupport.parkNanos(nanos);
+        }
+    };
+
+    /**
+     * The time between two frames, in nanoseconds.
+     */
+    private final long frameNanos;
+
+    /**
+     * The task drawing a single frame.
+     */
+    private final BooleanSupplier frame;
+
+    /**
+     * The clock the frames are paced by.
+     */
+    private final Clock clock;
+
+    /**
+     * <code>true</code> iff the loop should keep running.
+     */
+    private volatile boolean running;
+
+    /**
+     * The exponential moving average of the time it takes to draw a frame,
+     * in nanoseconds. Only accessed by the thread running the loop.
+     */
+    private double averageFrameNanos;
+
+    /**
+     * The thread running the loop, if it was started.
+     */
+    private @Nullable Thread thread;
+
+    /**
+     * Creates a new render loop, paced by the system clock.
+     *
+     * @param framesPerSecond
+     *            The target number of frames per second.
+     * @param frame
+     *            The task drawing a single frame, returning
+     *            <code>false</code> iff it skipped the frame because nothing
+     *            changed.
+     */
+    RenderLoop(int framesPerSecond, BooleanSupplier frame) {
+        this(framesPerSecond, frame, SYSTEM_CLOCK);
+    }
+
+    /**
+     * Creates a new render loop.
+     *
+     * @param framesPerSecond
+     *            The target number of frames per second.
+     * @param frame
+     *            The task drawing a single frame, returning
+     *            <code>false</code> iff it skipped the frame because nothing
+     *            changed.
+     * @param clock
+     *            The clock to pace the frames by.
+     */
+    RenderLoop(int framesPerSecond, BooleanSupplier frame, Clock clock) {
+        assert framesPerSecond > 0;
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / framesPerSecond;
+        this.frame = frame;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts drawing frames on a new daemon thread.
+     */
+    synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        Thread loop = new Thread(this::run, "jpacman-render");
+        loop.setDaemon(true);
+        thread = loop;
+        loop.start();
+    }
+
+    /**
+     * Stops drawing frames, after the current one.
+     */
+    synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    private void run() {
+        long deadline = clock.nanoTime();
+        while (running) {
+            long start = clock.nanoTime();
+            boolean drawn = frame.getAsBoolean();
+            long end = clock.nanoTime();
+            if (drawn) {
+                averageFrameNanos += SMOOTHING * ((end - start) - averageFrameNanos);
+            }
+
+            deadline += frameNanos;
+            if (end - deadline > frameNanos) {
+                deadline = end;
+            }
+            long next = deadline - (long) averageFrameNanos;
+            for (long wait = next - clock.nanoTime(); wait > 0 && running;
+                 wait = next - clock.nanoTime()) {
+                clock.parkNanos(wait);
+            }
+        }
+    }
+
+    /**
+     * The source of time of a render loop.
+     */
+    interface Clock {
+
+        /**
+         * @return The current time, in nanoseconds.
+         */
+        long nanoTime();
+
+        /**
+         * Waits for at most the given time, or until the loop is stopped.
+         *
+         * @param nanos
+         *            The maximum time to wait, in nanoseconds.
+         */
+        void parkNanos(long nanos);
+    }
+}
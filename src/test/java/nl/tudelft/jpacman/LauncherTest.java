@@ -0,0 +1,119 @@
+package nl.tudelft.jpacman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.Level;
+import nl.tudelft.jpacman.level.LevelFactory;
+import nl.tudelft.jpacman.level.MapParser;
+import nl.tudelft.jpacman.npc.NPC;
+import nl.tudelft.jpacman.sprite.HeadlessSprites;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+import nl.tudelft.jpacman.sprite.Sprite;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the levels made by the {@link Launcher}, without launching a user
+ * interface.
+ */
+@SuppressWarnings("magicnumber")
+class LauncherTest {
+
+    /**
+     * The sprites of the levels, loading no images.
+     */
+    private static final PacManSprites SPRITES = new HeadlessSprites();
+
+    /**
+     * The map of the tests, of which the 'X' is only known to the
+     * {@link ExtendedParser}.
+     */
+    private static final String MAP = "/launcher/extended.txt";
+
+    /**
+     * Verifies levels are made by the parser of the launcher, so that a
+     * parser of extra characters can be plugged in.
+     */
+    @Test
+    void customParser() {
+        Level level = new ExtendedLauncher().withMapFile(MAP).makeLevel();
+        assertThat(level.getBoard().squareAt(3, 1)).isInstanceOf(Marker.class);
+        assertThat(level.remainingPellets()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies levels made from a template are new levels of the same map.
+     */
+    @Test
+    void templateLevels() {
+        Launcher launcher = new HeadlessLauncher().withLevelTemplate();
+        Board first = launcher.makeLevel().getBoard();
+        Board second = launcher.makeLevel().getBoard();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getWidth()).isEqualTo(first.getWidth());
+        assertThat(second.getHeight()).isEqualTo(first.getHeight());
+    }
+
+    /**
+     * A launcher that loads no images.
+     */
+    private static class HeadlessLauncher extends Launcher {
+
+        @Override
+        protected PacManSprites getSpriteStore() {
+            return SPRITES;
+        }
+    }
+
+    /**
+     * A launcher of which the parser knows an extra character.
+     */
+    private static final class ExtendedLauncher extends HeadlessLauncher {
+
+        @Override
+        protected MapParser getMapParser() {
+            return new ExtendedParser(getLevelFactory(), getBoardFactory());
+        }
+    }
+
+    /**
+     * A parser that reads an 'X' as a {@link Marker}.
+     */
+    private static final class ExtendedParser extends MapParser {
+
+        ExtendedParser(LevelFactory levelFactory, BoardFactory boardFactory) {
+            super(levelFactory, boardFactory);
+        }
+
+        @Override
+        protected void addSquare(Square[][] grid, List<NPC> ghosts,
+                                 List<Square> startPositions, int x, int y, char c) {
+            if (c == 'X') {
+                grid[x][y] = new Marker();
+            } else {
+                super.addSquare(grid, ghosts, startPositions, x, y, c);
+            }
+        }
+    }
+
+    /**
+     * A square of the extra character, accessible to all units.
+     */
+    private static final class Marker extends Square {
+
+        @Override
+        public boolean isAccessibleTo(Unit unit) {
+            return true;
+        }
+
+        @Override
+        public Sprite getSprite() {
+            return SPRITES.getGroundSprite();
+        }
+    }
+}
@@ -86,4 +86,19 @@ class BoardFactoryTest {
         assertThat(s1.getSquareAt(Direction.SOUTH)).isEqualTo(s2);
         assertThat(s2.getSquareAt(Direction.SOUTH)).isEqualTo(s1);
     }
+
+    /**
+     * Verifies the access mask of a ground square with a wall to the west
+     * allows moving in every direction but west, as north and south wrap
+     * around to the square itself.
+     */
+    @Test
+    void accessMask() {
+        Square wall = factory.createWall();
+        Square ground = factory.createGround();
+        Square other = factory.createGround();
+        factory.createBoard(new Square[][]{{wall}, {ground}, {other}});
+        int allButWest = 0b1111 & ~(1 << Direction.WEST.ordinal());
+        assertThat(ground.getAccessMask(new BasicUnit())).isEqualTo(allButWest);
+    }
 }
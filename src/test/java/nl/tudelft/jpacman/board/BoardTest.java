@@ -1,5 +1,7 @@
 package nl.tudelft.jpacman.board;
 
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -53,4 +55,40 @@ class BoardTest {
     void testSquareAt(int x, int y) {
         assertThat(board.squareAt(x, y)).isEqualTo(grid[x][y]);
     }
+
+    /**
+     * Verifies the squares a unit leaves and enters are reported as changed,
+     * once.
+     */
+    @Test
+    void changedSquares() {
+        Square[][] squares = {
+            {new BasicSquare(), new BasicSquare()},
+            {new BasicSquare(), new BasicSquare()}
+        };
+        Board linked = new BoardFactory(mock(PacManSprites.class)).createBoard(squares);
+        Unit unit = new BasicUnit();
+        unit.occupy(squares[0][0]);
+        linked.takeChangedSquares();
+
+        unit.occupy(squares[1][1]);
+        assertThat(linked.takeChangedSquares())
+            .containsExactlyInAnyOrder(squares[0][0], squares[1][1]);
+        assertThat(linked.takeChangedSquares()).isEmpty();
+    }
+
+    /**
+     * Verifies the square of a unit turning around is reported as changed.
+     */
+    @Test
+    void turnedUnit() {
+        Square[][] squares = {{new BasicSquare(), new BasicSquare()}};
+        Board linked = new BoardFactory(mock(PacManSprites.class)).createBoard(squares);
+        Unit unit = new BasicUnit();
+        unit.occupy(squares[0][1]);
+        linked.takeChangedSquares();
+
+        unit.setDirection(Direction.WEST);
+        assertThat(linked.takeChangedSquares()).containsExactly(squares[0][1]);
+    }
 }
@@ -0,0 +1,142 @@
+package nl.tudelft.jpacman.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import nl.tudelft.jpacman.npc.ghost.Navigation;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the precomputed shortest paths of a board.
+ */
+@SuppressWarnings("magicnumber")
+class NextHopTableTest {
+
+    /**
+     * The maze, with a main area and a separate pocket at the bottom.
+     */
+    private static final String[] MAZE = {
+        "#######",
+        "#     #",
+        "# ### #",
+        "#   # #",
+        "#######",
+        "#  ####",
+        "#######"
+    };
+
+    /**
+     * The factory precomputing the shortest paths.
+     */
+    private BoardFactory tabled;
+
+    /**
+     * The factory leaving the shortest paths to be searched.
+     */
+    private BoardFactory searched;
+
+    /**
+     * Creates the factories.
+     */
+    @BeforeEach
+    void setUp() {
+        PacManSprites sprites = mock(PacManSprites.class);
+        tabled = new BoardFactory(sprites, true);
+        searched = new BoardFactory(sprites);
+    }
+
+    /**
+     * Verifies the paths in the table are as short as the ones found by
+     * searching, and lead to their destination over ground only.
+     */
+    @Test
+    void shortestPaths() {
+        Board board = createBoard(tabled);
+        Board reference = createBoard(searched);
+        NextHopTable table = board.getNextHops();
+        assertThat(table).isNotNull();
+        BasicUnit traveller = new BasicUnit();
+
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                Square from = board.squareAt(x, y);
+                if (!table.covers(from)) {
+                    continue;
+                }
+                for (int tx = 0; tx < board.getWidth(); tx++) {
+                    for (int ty = 0; ty < board.getHeight(); ty++) {
+                        List<Direction> path = table.path(from, board.squareAt(tx, ty));
+                        List<Direction> expected = Navigation.shortestPath(
+                            reference.squareAt(x, y), reference.squareAt(tx, ty), traveller);
+                        if (expected == null) {
+                            assertThat(path).isNull();
+                        } else {
+                            assertThat(path).hasSameSizeAs(expected);
+                            assertThat(follow(from, path, traveller))
+                                .isEqualTo(board.squareAt(tx, ty));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies the first move of a path through the corridor.
+     */
+    @Test
+    void nextHop() {
+        Board board = createBoard(tabled);
+        NextHopTable table = board.getNextHops();
+        assertThat(table).isNotNull();
+        assertThat(table.nextHop(board.squareAt(1, 3), board.squareAt(5, 3)))
+            .isEqualTo(Direction.NORTH);
+        assertThat(table.nextHop(board.squareAt(1, 3), board.squareAt(1, 3))).isNull();
+        assertThat(table.nextHop(board.squareAt(1, 3), board.squareAt(1, 5))).isNull();
+    }
+
+    /**
+     * Verifies walls are not covered by the table.
+     */
+    @Test
+    void wallsNotCovered() {
+        Board board = createBoard(tabled);
+        NextHopTable table = board.getNextHops();
+        assertThat(table).isNotNull();
+        assertThat(table.covers(board.squareAt(0, 0))).isFalse();
+        assertThat(table.covers(board.squareAt(1, 1))).isTrue();
+    }
+
+    /**
+     * Verifies paths are only precomputed on request.
+     */
+    @Test
+    void notPrecomputedByDefault() {
+        assertThat(createBoard(searched).getNextHops()).isNull();
+    }
+
+    private Square follow(Square from, List<Direction> path, Unit traveller) {
+        Square square = from;
+        for (Direction direction : path) {
+            square = square.getSquareAt(direction);
+            assertThat(square.isAccessibleTo(traveller)).isTrue();
+        }
+        return square;
+    }
+
+    private Board createBoard(BoardFactory factory) {
+        Square[][] grid = new Square[MAZE[0].length()][MAZE.length];
+        for (int x = 0; x < grid.length; x++) {
+            for (int y = 0; y < grid[x].length; y++) {
+                grid[x][y] = MAZE[y].charAt(x) == '#' ? factory.createWall()
+                    : factory.createGround();
+            }
+        }
+        return factory.createBoard(grid);
+    }
+}
@@ -1,5 +1,7 @@
 package nl.tudelft.jpacman.board;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -62,4 +64,20 @@ class SquareTest {
 
         assertThat(square.getOccupants()).containsSequence(o1, o2);
     }
+
+    /**
+     * Assert that a list of occupants is not affected by later changes.
+     */
+    @Test
+    void testSnapshot() {
+        Unit o1 = mock(Unit.class);
+        Unit o2 = mock(Unit.class);
+        square.put(o1);
+        List<Unit> before = square.getOccupants();
+        square.put(o2);
+        square.remove(o1);
+
+        assertThat(before).containsExactly(o1);
+        assertThat(square.getOccupants()).containsExactly(o2);
+    }
 }
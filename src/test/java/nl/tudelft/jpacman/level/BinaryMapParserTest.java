@@ -0,0 +1,146 @@
+package nl.tudelft.jpacman.level;
+
+import static nl.tudelft.jpacman.level.MapFixtures.MAP;
+import static nl.tudelft.jpacman.level.MapFixtures.describe;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import nl.tudelft.jpacman.PacmanConfigurationException;
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests loading levels from binary maps converted from text maps.
+ */
+@SuppressWarnings("magicnumber")
+class BinaryMapParserTest {
+
+    /**
+     * The sprites of the levels.
+     */
+    private PacManSprites sprites;
+
+    /**
+     * Creates the sprites.
+     */
+    @BeforeEach
+    void setUp() {
+        sprites = MapFixtures.sprites();
+    }
+
+    private BinaryMapParser binaryParser() {
+        return new BinaryMapParser(MapFixtures.levelFactory(sprites), new BoardFactory(sprites));
+    }
+
+    /**
+     * Verifies a converted map file loads into the same level as the text.
+     *
+     * @throws IOException
+     *             when a file could not be read or written.
+     */
+    @Test
+    void convertedFile() throws IOException {
+        Path text = Files.createTempFile("map", ".txt");
+        Path binary = Files.createTempFile("map", ".bin");
+        try {
+            Files.write(text, MAP, StandardCharsets.UTF_8);
+            BinaryMapParser.convert(text, binary);
+            Level loaded = binaryParser().parseMap(binary);
+            Level expected = MapFixtures.parser(sprites).parseMap(MAP);
+
+            assertThat(describe(loaded.getBoard())).isEqualTo(describe(expected.getBoard()));
+            assertThat(loaded.remainingPellets()).isEqualTo(expected.remainingPellets());
+        } finally {
+            Files.delete(text);
+            Files.delete(binary);
+        }
+    }
+
+    /**
+     * Verifies the start positions are loaded in order.
+     */
+    @Test
+    void startPositions() {
+        char[][] map = {{'P', '#'}, {' ', 'P'}};
+        Level level = binaryParser().parseMap(BinaryMapParser.convert(map));
+        Player first = new PlayerFactory(sprites).createPacMan();
+        Player second = new PlayerFactory(sprites).createPacMan();
+        level.registerPlayer(first);
+        level.registerPlayer(second);
+        Square firstSquare = level.getBoard().squareAt(0, 0);
+        Square secondSquare = level.getBoard().squareAt(1, 1);
+        assertThat(first.getSquare()).isEqualTo(firstSquare);
+        assertThat(second.getSquare()).isEqualTo(secondSquare);
+        assertThat(level.getBoard().squareAt(0, 1).isAccessibleTo(first)).isFalse();
+    }
+
+    /**
+     * Verifies a map larger than a byte of terrain bits round trips.
+     */
+    @Test
+    void generatedMap() {
+        char[][] map = new MapGenerator(11L).withSize(37, 23).withTunnels(2).generate();
+        Board board = binaryParser().parseMap(BinaryMapParser.convert(map)).getBoard();
+        Player player = new PlayerFactory(sprites).createPacMan();
+        for (int x = 0; x < 37; x++) {
+            for (int y = 0; y < 23; y++) {
+                assertThat(board.squareAt(x, y).isAccessibleTo(player))
+                    .isEqualTo(map[x][y] != '#');
+            }
+        }
+    }
+
+    /**
+     * Verifies invalid binary maps are rejected.
+     */
+    @Test
+    void invalid() {
+        ByteBuffer valid = BinaryMapParser.convert(new char[][] {{'P', '.'}});
+        ByteBuffer truncated = ByteBuffer.wrap(valid.array(), 0, valid.limit() - 1);
+        assertThatThrownBy(() -> binaryParser().parseMap(truncated))
+            .isInstanceOf(PacmanConfigurationException.class);
+        assertThatThrownBy(() -> binaryParser().parseMap(ByteBuffer.allocate(16)))
+            .isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("Not a binary map");
+        assertThatThrownBy(() -> BinaryMapParser.convert(new char[][] {{'X'}}))
+            .isInstanceOf(PacmanConfigurationException.class);
+    }
+
+    /**
+     * Verifies binary maps with a unit on a wall, or several units on one
+     * square, are rejected.
+     */
+    @Test
+    void misplacedUnits() {
+        ByteBuffer onWall = header().putInt(0).putInt(0).putInt(1).putInt(1);
+        onWall.flip();
+        assertThatThrownBy(() -> binaryParser().parseMap(onWall))
+            .isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("on a wall");
+        ByteBuffer shared = header().putInt(1).putInt(0).putInt(0).putInt(1).putInt(0);
+        shared.flip();
+        assertThatThrownBy(() -> binaryParser().parseMap(shared))
+            .isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("Several units");
+    }
+
+    /**
+     * @return A buffer with the header and terrain of a map of a ground
+     *         square above a wall.
+     */
+    private static ByteBuffer header() {
+        return ByteBuffer.allocate(64).putInt(BinaryMapParser.MAGIC)
+            .putInt(BinaryMapParser.VERSION).putInt(1).putInt(2).put((byte) 0b10);
+    }
+}
@@ -0,0 +1,93 @@
+package nl.tudelft.jpacman.level;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.CollisionInteractionMap.CollisionHandler;
+import nl.tudelft.jpacman.npc.NPC;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the dispatch of collisions to the most specific handler.
+ */
+@SuppressWarnings({"unchecked", "PMD.JUnitTestsShouldIncludeAssert"})
+class CollisionInteractionMapTest {
+
+    /**
+     * The map under test.
+     */
+    private CollisionInteractionMap map;
+
+    /**
+     * A player colliding.
+     */
+    private final Player player = mock(Player.class);
+
+    /**
+     * A pellet collided with.
+     */
+    private final Pellet pellet = mock(Pellet.class);
+
+    /**
+     * Creates an empty map.
+     */
+    @BeforeEach
+    void setUp() {
+        map = new CollisionInteractionMap();
+    }
+
+    /**
+     * Verifies the handler of a supertype is used, every time.
+     */
+    @Test
+    void repeatedCollision() {
+        CollisionHandler<Player, Unit> handler = mock(CollisionHandler.class);
+        map.onCollision(Player.class, Unit.class, false, handler);
+        map.collide(player, pellet);
+        map.collide(player, pellet);
+        verify(handler, times(2)).handleCollision(player, pellet);
+    }
+
+    /**
+     * Verifies the inverse handler is used for symmetric collisions.
+     */
+    @Test
+    void symmetricCollision() {
+        CollisionHandler<Player, Pellet> handler = mock(CollisionHandler.class);
+        map.onCollision(Player.class, Pellet.class, handler);
+        map.collide(pellet, player);
+        verify(handler).handleCollision(player, pellet);
+    }
+
+    /**
+     * Verifies nothing happens without a matching handler.
+     */
+    @Test
+    void noHandler() {
+        CollisionHandler<Player, NPC> handler = mock(CollisionHandler.class);
+        map.onCollision(Player.class, NPC.class, false, handler);
+        map.collide(player, pellet);
+        map.collide(pellet, player);
+        verifyZeroInteractions(handler);
+    }
+
+    /**
+     * Verifies a handler added after a collision is used for the next one.
+     */
+    @Test
+    void handlerAddedLater() {
+        CollisionHandler<Player, Unit> general = mock(CollisionHandler.class);
+        CollisionHandler<Player, Pellet> specific = mock(CollisionHandler.class);
+        map.onCollision(Player.class, Unit.class, false, general);
+        map.collide(player, pellet);
+        map.onCollision(Player.class, Pellet.class, false, specific);
+        map.collide(player, pellet);
+        verify(general).handleCollision(player, pellet);
+        verify(specific).handleCollision(player, pellet);
+    }
+}
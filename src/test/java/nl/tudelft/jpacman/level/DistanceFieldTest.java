@@ -0,0 +1,137 @@
+package nl.tudelft.jpacman.level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.npc.ghost.GhostFactory;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the distances to the players shared by the ghosts of a level.
+ */
+@SuppressWarnings("magicnumber")
+class DistanceFieldTest {
+
+    /**
+     * The level under test: a corridor with a player on its west end and a
+     * ghost on its east end.
+     */
+    private Level level;
+
+    /**
+     * The player on the level.
+     */
+    private Player player;
+
+    /**
+     * The distances to the player.
+     */
+    private DistanceField distances;
+
+    /**
+     * The parser of the levels.
+     */
+    private MapParser parser;
+
+    /**
+     * Creates the level and registers the player.
+     */
+    @BeforeEach
+    void setUp() {
+        PacManSprites sprites = mock(PacManSprites.class, RETURNS_MOCKS);
+        parser = new MapParser(new LevelFactory(sprites, new GhostFactory(sprites)),
+            new BoardFactory(sprites));
+        level = parser.parseMap(Lists.newArrayList(
+            "######",
+            "#P   #",
+            "#### #",
+            "#   G#",
+            "######"));
+        player = new PlayerFactory(sprites).createPacMan();
+        level.registerPlayer(player);
+        distances = level.getPlayerDistances();
+        assertThat(distances).isNotNull();
+    }
+
+    /**
+     * Verifies the distances follow the corridor rather than the straight
+     * line.
+     */
+    @Test
+    void distanceAlongCorridor() {
+        Board board = level.getBoard();
+        assertThat(distances.distanceToNearestPlayer(board.squareAt(1, 1))).isEqualTo(0);
+        assertThat(distances.distanceToNearestPlayer(board.squareAt(4, 1))).isEqualTo(3);
+        assertThat(distances.distanceToNearestPlayer(board.squareAt(1, 3))).isEqualTo(8);
+    }
+
+    /**
+     * Verifies the direction leads towards the player.
+     */
+    @Test
+    void directionTowardsPlayer() {
+        Board board = level.getBoard();
+        assertThat(distances.directionToNearestPlayer(board.squareAt(1, 3)))
+            .isEqualTo(Direction.EAST);
+        assertThat(distances.directionToNearestPlayer(board.squareAt(4, 2)))
+            .isEqualTo(Direction.NORTH);
+        assertThat(distances.directionToNearestPlayer(board.squareAt(1, 1))).isNull();
+        assertThat(distances.nearestPlayer(board.squareAt(1, 3))).isEqualTo(player);
+    }
+
+    /**
+     * Verifies walls cannot reach the player.
+     */
+    @Test
+    void wallUnreachable() {
+        Board board = level.getBoard();
+        assertThat(distances.distanceToNearestPlayer(board.squareAt(0, 0)))
+            .isEqualTo(DistanceField.UNREACHABLE);
+        assertThat(distances.nearestPlayer(board.squareAt(0, 0))).isNull();
+    }
+
+    /**
+     * Verifies the distances are updated when the player moves.
+     */
+    @Test
+    void updatedOnMove() {
+        level.start();
+        level.move(player, Direction.EAST);
+        level.stop();
+        Board board = level.getBoard();
+        assertThat(distances.distanceToNearestPlayer(board.squareAt(1, 1))).isEqualTo(1);
+        assertThat(distances.distanceToNearestPlayer(board.squareAt(1, 3))).isEqualTo(7);
+    }
+
+    /**
+     * Verifies a level without ghosts shares no distances.
+     */
+    @Test
+    void noneWithoutGhosts() {
+        Level empty = parser.parseMap(Lists.newArrayList("#P #"));
+        assertThat(empty.getPlayerDistances()).isNull();
+    }
+
+    /**
+     * Verifies levels only share distances on boards of at most the maximum
+     * number of squares.
+     */
+    @Test
+    void supportedUpToMaximum() {
+        Board board = mock(Board.class);
+        when(board.getWidth()).thenReturn(DistanceField.MAX_SQUARES / 2);
+        when(board.getHeight()).thenReturn(2);
+        assertThat(DistanceField.supports(board)).isTrue();
+        when(board.getHeight()).thenReturn(3);
+        assertThat(DistanceField.supports(board)).isFalse();
+    }
+}
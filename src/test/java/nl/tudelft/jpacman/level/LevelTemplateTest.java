@@ -0,0 +1,147 @@
+package nl.tudelft.jpacman.level;
+
+import static nl.tudelft.jpacman.level.MapFixtures.MAP;
+import static nl.tudelft.jpacman.level.MapFixtures.describe;
+import static nl.tudelft.jpacman.level.MapFixtures.parser;
+import static nl.tudelft.jpacman.level.MapFixtures.transpose;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import nl.tudelft.jpacman.PacmanConfigurationException;
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the levels created from a {@link LevelTemplate}.
+ */
+@SuppressWarnings("magicnumber")
+class LevelTemplateTest {
+
+    /**
+     * The sprites of the levels.
+     */
+    private PacManSprites sprites;
+
+    /**
+     * The template under test, of {@link #MAP}.
+     */
+    private LevelTemplate template;
+
+    /**
+     * Creates the template, precomputing the shortest paths.
+     */
+    @BeforeEach
+    void setUp() {
+        sprites = MapFixtures.sprites();
+        template = parser(sprites, true).parseTemplate(transpose(MAP));
+    }
+
+    /**
+     * Verifies a level created from the template is the parsed level.
+     */
+    @Test
+    void sameAsParsed() {
+        Level level = template.instantiate();
+        Level parsed = parser(sprites).parseMap(MAP);
+        assertThat(describe(level.getBoard())).isEqualTo(describe(parsed.getBoard()));
+        assertThat(level.remainingPellets()).isEqualTo(parsed.remainingPellets());
+        Player player = new PlayerFactory(sprites).createPacMan();
+        level.registerPlayer(player);
+        assertThat(player.getSquare()).isEqualTo(level.getBoard().squareAt(3, 1));
+    }
+
+    /**
+     * Verifies a template read from a stream, row by row, creates the same
+     * levels as one of the same map given as characters.
+     *
+     * @throws IOException
+     *             when the map could not be read.
+     */
+    @Test
+    void streamed() throws IOException {
+        byte[] text = (String.join("\r\n", MAP) + "\r\n").getBytes(StandardCharsets.UTF_8);
+        LevelTemplate streamed = parser(sprites).parseTemplate(new ByteArrayInputStream(text));
+        assertThat(describe(streamed.instantiate().getBoard()))
+            .isEqualTo(describe(template.instantiate().getBoard()));
+        assertThatThrownBy(() -> parser(sprites).parseTemplate(
+            new ByteArrayInputStream("#P#\n#X#\n".getBytes(StandardCharsets.UTF_8))))
+            .isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("1,1: X");
+    }
+
+    /**
+     * Verifies the levels have their own squares and pellets, but share their
+     * shortest paths.
+     */
+    @Test
+    void independentLevels() {
+        Level first = template.instantiate();
+        Level second = template.instantiate();
+        assertThat(first.getBoard().squareAt(1, 1))
+            .isNotSameAs(second.getBoard().squareAt(1, 1));
+        assertThat(first.getBoard().getNextHops()).isNotNull()
+            .isSameAs(second.getBoard().getNextHops());
+
+        Player player = new PlayerFactory(sprites).createPacMan();
+        first.registerPlayer(player);
+        first.start();
+        first.move(player, Direction.EAST);
+        first.stop();
+        assertThat(first.remainingPellets()).isEqualTo(4);
+        assertThat(second.remainingPellets()).isEqualTo(5);
+    }
+
+    /**
+     * Verifies the shared shortest paths are followed on every board.
+     */
+    @Test
+    void sharedPaths() {
+        for (int i = 0; i < 2; i++) {
+            Board board = template.instantiate().getBoard();
+            Square from = board.squareAt(1, 1);
+            Square to = board.squareAt(7, 3);
+            assertThat(board.getNextHops().covers(from)).isTrue();
+            assertThat(board.getNextHops().path(from, to)).hasSize(8);
+        }
+    }
+
+    /**
+     * Verifies levels can be created from a template on many threads at once.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting.
+     * @throws ExecutionException
+     *             when a level could not be created.
+     */
+    @Test
+    void concurrentInstances() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Level>> levels = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                levels.add(executor.submit(template::instantiate));
+            }
+            List<String> expected = describe(template.instantiate().getBoard());
+            for (Future<Level> level : levels) {
+                assertThat(describe(level.get().getBoard())).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package nl.tudelft.jpacman.level;
+
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.npc.ghost.GhostFactory;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The map, sprites and parsers shared by the tests of the ways a map is
+ * turned into levels, and a description of a board to compare the resulting
+ * levels by.
+ */
+final class MapFixtures {
+
+    /**
+     * A map with a ghost of every kind and two start positions.
+     */
+    static final List<String> MAP = ImmutableList.of(
+        "#########",
+        "#G.P.G  #",
+        "#.#####.#",
+        "#G  P .G#",
+        "#########");
+
+    private MapFixtures() {
+    }
+
+    /**
+     * @return Sprites of which every sprite is a mock.
+     */
+    static PacManSprites sprites() {
+        return mock(PacManSprites.class, RETURNS_MOCKS);
+    }
+
+    /**
+     * @param sprites
+     *            The sprites of the levels.
+     * @return A factory of levels with the default ghosts.
+     */
+    static LevelFactory levelFactory(PacManSprites sprites) {
+        return new LevelFactory(sprites, new GhostFactory(sprites));
+    }
+
+    /**
+     * @param sprites
+     *            The sprites of the levels.
+     * @return A parser of text maps.
+     */
+    static MapParser parser(PacManSprites sprites) {
+        return parser(sprites, false);
+    }
+
+    /**
+     * @param sprites
+     *            The sprites of the levels.
+     * @param precomputePaths
+     *            <code>true</code> iff the boards should get precomputed
+     *            shortest paths.
+     * @return A parser of text maps.
+     */
+    static MapParser parser(PacManSprites sprites, boolean precomputePaths) {
+        return new MapParser(levelFactory(sprites), new BoardFactory(sprites, precomputePaths));
+    }
+
+    /**
+     * Transposes the rows of a map into the map of
+     * {@link MapParser#parseMap(char[][])}.
+     *
+     * @param rows
+     *            The rows of the map, the first being the top row.
+     * @return The map, with map[x][y] the square at x,y.
+     */
+    static char[][] transpose(List<String> rows) {
+        char[][] map = new char[rows.get(0).length()][rows.size()];
+        for (int y = 0; y < rows.size(); y++) {
+            for (int x = 0; x < map.length; x++) {
+                map[x][y] = rows.get(y).charAt(x);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Describes every square of a board, column by column, by the types of
+     * the square and its occupants.
+     *
+     * @param board
+     *            The board to describe.
+     * @return The descriptions of the squares.
+     */
+    static List<String> describe(Board board) {
+        List<String> squares = new ArrayList<>();
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                StringBuilder square = new StringBuilder(board.squareAt(x, y).getClass()
+                    .getSimpleName());
+                for (Unit unit : board.squareAt(x, y).getOccupants()) {
+                    square.append(' ').append(unit.getClass().getSimpleName());
+                }
+                squares.add(square.toString());
+            }
+        }
+        return squares;
+    }
+}
@@ -0,0 +1,139 @@
+package nl.tudelft.jpacman.level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import nl.tudelft.jpacman.simulation.Simulator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the maps generated by the {@link MapGenerator}.
+ */
+@SuppressWarnings("magicnumber")
+class MapGeneratorTest {
+
+    /**
+     * Verifies the same seed generates the same map, and another seed another.
+     */
+    @Test
+    void seeded() {
+        char[][] map = new MapGenerator(42L).withSize(31, 25).generate();
+        assertThat(new MapGenerator(42L).withSize(31, 25).generate()).isEqualTo(map);
+        assertThat(new MapGenerator(43L).withSize(31, 25).generate()).isNotEqualTo(map);
+    }
+
+    /**
+     * Verifies the map has the requested size, a single player and a closed
+     * border without tunnels.
+     */
+    @Test
+    void closedBorder() {
+        char[][] map = new MapGenerator(1L).withSize(40, 21).generate();
+        assertThat(map).hasSize(40);
+        assertThat(map[0]).hasSize(21);
+        assertThat(count(map, 'P')).isEqualTo(1);
+        for (int x = 0; x < 40; x++) {
+            assertThat(map[x][0]).isEqualTo('#');
+            assertThat(map[x][20]).isEqualTo('#');
+        }
+        for (int y = 0; y < 21; y++) {
+            assertThat(map[0][y]).isEqualTo('#');
+            assertThat(map[39][y]).isEqualTo('#');
+        }
+    }
+
+    /**
+     * Verifies every free square can be reached from the player, through the
+     * tunnels too.
+     */
+    @Test
+    void connected() {
+        char[][] map = new MapGenerator(7L).withSize(60, 45).withOpenness(0.0)
+            .withTunnels(3).generate();
+        int tunnels = 0;
+        for (int y = 0; y < 45; y++) {
+            if (map[0][y] != '#') {
+                assertThat(map[59][y]).isNotEqualTo('#');
+                tunnels++;
+            }
+        }
+        assertThat(tunnels).isEqualTo(3);
+        assertThat(reachable(map)).isEqualTo(60 * 45 - count(map, '#'));
+    }
+
+    /**
+     * Verifies the densities of the ghosts and pellets.
+     */
+    @Test
+    void densities() {
+        char[][] full = new MapGenerator(3L).withSize(101, 101).withGhostDensity(0.0)
+            .withPelletDensity(1.0).generate();
+        assertThat(count(full, 'G')).isZero();
+        assertThat(count(full, ' ')).isZero();
+
+        char[][] empty = new MapGenerator(3L).withSize(101, 101).withGhostDensity(0.0)
+            .withPelletDensity(0.0).generate();
+        assertThat(count(empty, '.')).isZero();
+
+        char[][] crowded = new MapGenerator(3L).withSize(101, 101).withGhostDensity(0.5)
+            .withPelletDensity(0.0).generate();
+        int free = 101 * 101 - count(crowded, '#');
+        assertThat(count(crowded, 'G')).isBetween(free * 2 / 5, free * 3 / 5);
+    }
+
+    /**
+     * Verifies a generated map can be played.
+     */
+    @Test
+    void parsed() {
+        char[][] map = new MapGenerator(5L).withSize(51, 51).withTunnels(2).generate();
+        Simulator simulator = new Simulator(map, TickScheduler.DEFAULT_TICK_MILLIS);
+        assertThat(simulator.getLevel().getBoard().getWidth()).isEqualTo(51);
+        assertThat(simulator.getLevel().remainingPellets()).isEqualTo(count(map, '.'));
+    }
+
+    private static int count(char[][] map, char square) {
+        int count = 0;
+        for (char[] column : map) {
+            for (char c : column) {
+                if (c == square) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int reachable(char[][] map) {
+        int width = map.length;
+        int height = map[0].length;
+        boolean[][] seen = new boolean[width][height];
+        Deque<int[]> queue = new ArrayDeque<>();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (map[x][y] == 'P') {
+                    seen[x][y] = true;
+                    queue.add(new int[] {x, y});
+                }
+            }
+        }
+        int count = 0;
+        int[][] steps = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+        while (!queue.isEmpty()) {
+            int[] square = queue.remove();
+            count++;
+            for (int[] step : steps) {
+                int x = (square[0] + step[0] + width) % width;
+                int y = (square[1] + step[1] + height) % height;
+                if (!seen[x][y] && map[x][y] != '#') {
+                    seen[x][y] = true;
+                    queue.add(new int[] {x, y});
+                }
+            }
+        }
+        return count;
+    }
+}
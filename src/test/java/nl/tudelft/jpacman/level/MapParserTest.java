@@ -0,0 +1,131 @@
+package nl.tudelft.jpacman.level;
+
+import static nl.tudelft.jpacman.level.MapFixtures.MAP;
+import static nl.tudelft.jpacman.level.MapFixtures.describe;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import nl.tudelft.jpacman.PacmanConfigurationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests parsing maps read from streams.
+ */
+@SuppressWarnings("magicnumber")
+class MapParserTest {
+
+    /**
+     * The parser under test.
+     */
+    private MapParser parser;
+
+    /**
+     * Creates the parser.
+     */
+    @BeforeEach
+    void setUp() {
+        parser = MapFixtures.parser(MapFixtures.sprites());
+    }
+
+    private Level parse(String text) throws IOException {
+        return parser.parseMap(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Verifies a streamed map has the same squares, ghosts and pellets as the
+     * same map given as lines.
+     *
+     * @throws IOException
+     *             when the map could not be read.
+     */
+    @Test
+    void sameAsLines() throws IOException {
+        Level streamed = parse(String.join("\n", MAP) + "\n");
+        Level expected = parser.parseMap(MAP);
+        assertThat(describe(streamed.getBoard())).isEqualTo(describe(expected.getBoard()));
+        assertThat(streamed.remainingPellets()).isEqualTo(expected.remainingPellets());
+    }
+
+    /**
+     * Verifies rows may end with carriage returns, and the last row without
+     * any line ending.
+     *
+     * @throws IOException
+     *             when the map could not be read.
+     */
+    @Test
+    void lineEndings() throws IOException {
+        Level crlf = parse("#####\r\n#P..#\r\n#####");
+        Level cr = parse("#####\r#P..#\r#####\r");
+        assertThat(crlf.getBoard().getHeight()).isEqualTo(3);
+        assertThat(cr.getBoard().getHeight()).isEqualTo(3);
+        assertThat(crlf.remainingPellets()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies a stream delivering a byte at a time is read to its end.
+     *
+     * @throws IOException
+     *             when the map could not be read.
+     */
+    @Test
+    void slowStream() throws IOException {
+        byte[] text = (String.join("\n", MAP) + "\n").getBytes(StandardCharsets.UTF_8);
+        InputStream slow = new ByteArrayInputStream(text) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+
+            @Override
+            public synchronized int available() {
+                return 0;
+            }
+        };
+        Level level = parser.parseMap(Channels.newChannel(slow));
+        assertThat(level.getBoard().getHeight()).isEqualTo(MAP.size());
+        assertThat(level.getBoard().getWidth()).isEqualTo(MAP.get(0).length());
+    }
+
+    /**
+     * Verifies a map taller than the initially allocated rows is read.
+     *
+     * @throws IOException
+     *             when the map could not be read.
+     */
+    @Test
+    void tallMap() throws IOException {
+        StringBuilder text = new StringBuilder("#P#\n");
+        for (int y = 1; y < 100; y++) {
+            text.append("#.#\n");
+        }
+        Level level = parse(text.toString());
+        assertThat(level.getBoard().getHeight()).isEqualTo(100);
+        assertThat(level.remainingPellets()).isEqualTo(99);
+    }
+
+    /**
+     * Verifies badly formatted text is rejected.
+     */
+    @Test
+    void badFormat() {
+        assertThatThrownBy(() -> parse("")).isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("at least 1 row");
+        assertThatThrownBy(() -> parse("\n#")).isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("cannot be empty");
+        assertThatThrownBy(() -> parse("###\n##\n"))
+            .isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("equal width");
+        assertThatThrownBy(() -> parse("#P#\n#X#\n"))
+            .isInstanceOf(PacmanConfigurationException.class)
+            .hasMessageContaining("1,1: X");
+    }
+}
@@ -0,0 +1,85 @@
+package nl.tudelft.jpacman.level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.npc.ghost.GhostFactory;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the level keeps track of the remaining pellets as they are eaten.
+ */
+class PelletCountTest {
+
+    /**
+     * The level under test: a player with two pellets to its east.
+     */
+    private Level level;
+
+    /**
+     * The player eating the pellets.
+     */
+    private Player player;
+
+    /**
+     * Creates the level and starts it with a single player.
+     */
+    @BeforeEach
+    void setUp() {
+        PacManSprites sprites = mock(PacManSprites.class, RETURNS_MOCKS);
+        MapParser parser = new MapParser(new LevelFactory(sprites, new GhostFactory(sprites)),
+            new BoardFactory(sprites));
+        level = parser.parseMap(Lists.newArrayList("#P..#"));
+        player = new PlayerFactory(sprites).createPacMan();
+        level.registerPlayer(player);
+        level.start();
+    }
+
+    /**
+     * Verifies the pellets on the board are counted initially.
+     */
+    @Test
+    void initialCount() {
+        assertThat(level.remainingPellets()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies an eaten pellet is no longer counted.
+     */
+    @Test
+    void eatPellet() {
+        level.move(player, Direction.EAST);
+        assertThat(level.remainingPellets()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies moving onto an empty square does not change the count.
+     */
+    @Test
+    void moveWithoutEating() {
+        level.move(player, Direction.EAST);
+        level.move(player, Direction.WEST);
+        assertThat(level.remainingPellets()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies the level is won once the last pellet is eaten.
+     */
+    @Test
+    @SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+    void eatAllPellets() {
+        Level.LevelObserver observer = mock(Level.LevelObserver.class);
+        level.addObserver(observer);
+        level.move(player, Direction.EAST);
+        level.move(player, Direction.EAST);
+        verify(observer).levelWon();
+    }
+}
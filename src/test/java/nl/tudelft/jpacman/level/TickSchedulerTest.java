@@ -0,0 +1,154 @@
+package nl.tudelft.jpacman.level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import nl.tudelft.jpacman.npc.NPC;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the timer wheel of the {@link TickScheduler}, driving it by hand.
+ */
+@SuppressWarnings("magicnumber")
+class TickSchedulerTest {
+
+    /**
+     * The scheduler under test, with ticks of 10 ms.
+     */
+    private TickScheduler scheduler;
+
+    /**
+     * The names of the NPCs in the order in which they moved.
+     */
+    private List<String> moves;
+
+    /**
+     * Resets the scheduler and the recorded moves.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new TickScheduler(10L);
+        moves = new ArrayList<>();
+    }
+
+    private NPC npcWithInterval(long interval) {
+        NPC npc = mock(NPC.class);
+        when(npc.getInterval()).thenReturn(interval);
+        return npc;
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            scheduler.tick();
+        }
+    }
+
+    /**
+     * Verifies the first move is made after half an interval.
+     */
+    @Test
+    void firstMoveAfterHalfInterval() {
+        scheduler.schedule(npcWithInterval(100L), () -> moves.add("a"));
+        tick(4);
+        assertThat(moves).isEmpty();
+        tick(1);
+        assertThat(moves).containsExactly("a");
+    }
+
+    /**
+     * Verifies every NPC keeps its own cadence.
+     */
+    @Test
+    void ownCadence() {
+        scheduler.schedule(npcWithInterval(20L), () -> moves.add("fast"));
+        scheduler.schedule(npcWithInterval(40L), () -> moves.add("slow"));
+        tick(10);
+        assertThat(moves).filteredOn("fast"::equals).hasSize(5);
+        assertThat(moves).filteredOn("slow"::equals).hasSize(3);
+    }
+
+    /**
+     * Verifies NPCs that are due on the same tick move in scheduling order.
+     */
+    @Test
+    void deterministicOrder() {
+        scheduler.schedule(npcWithInterval(20L), () -> moves.add("a"));
+        scheduler.schedule(npcWithInterval(20L), () -> moves.add("b"));
+        tick(5);
+        assertThat(moves).containsExactly("a", "b", "a", "b", "a", "b");
+    }
+
+    /**
+     * Verifies a cancelled task makes no more moves.
+     */
+    @Test
+    void cancel() {
+        LevelScheduler.Task task = scheduler.schedule(npcWithInterval(20L),
+            () -> moves.add("a"));
+        tick(1);
+        task.cancel();
+        tick(5);
+        assertThat(moves).containsExactly("a");
+    }
+
+    /**
+     * Verifies intervals longer than a full turn of the wheel are honoured.
+     */
+    @Test
+    void longInterval() {
+        scheduler.schedule(npcWithInterval(6000L), () -> moves.add("a"));
+        tick(299);
+        assertThat(moves).isEmpty();
+        tick(1);
+        assertThat(moves).containsExactly("a");
+    }
+
+    /**
+     * Verifies a failing task is stopped and reported, while the others keep
+     * moving.
+     */
+    @Test
+    void failingTask() {
+        List<LogRecord> warnings = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                warnings.add(record);
+            }
+
+            @Override
+            public void flush() {
+                // nothing buffered.
+            }
+
+            @Override
+            public void close() {
+                // nothing to release.
+            }
+        };
+        Logger logger = Logger.getLogger(TickScheduler.class.getName());
+        logger.addHandler(handler);
+        try {
+            scheduler.schedule(npcWithInterval(20L), () -> {
+                moves.add("broken");
+                throw new IllegalStateException("Broken NPC.");
+            });
+            scheduler.schedule(npcWithInterval(20L), () -> moves.add("a"));
+            tick(5);
+        } finally {
+            logger.removeHandler(handler);
+        }
+        assertThat(moves).containsExactly("broken", "a", "a", "a");
+        assertThat(warnings).hasSize(1);
+        assertThat(warnings.get(0).getThrown()).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package nl.tudelft.jpacman.level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import nl.tudelft.jpacman.npc.NPC;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the thread-per-NPC move loops of the {@link VirtualThreadScheduler}.
+ */
+@SuppressWarnings("magicnumber")
+class VirtualThreadSchedulerTest {
+
+    /**
+     * The threads created by the scheduler under test.
+     */
+    private final List<Thread> threads = new ArrayList<>();
+
+    /**
+     * The scheduler under test, keeping track of its threads.
+     */
+    private VirtualThreadScheduler scheduler;
+
+    /**
+     * An NPC that wants to move every 5 ms.
+     */
+    private final NPC npc = mock(NPC.class);
+
+    /**
+     * Resets the scheduler under test.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new VirtualThreadScheduler(r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            threads.add(thread);
+            return thread;
+        });
+        when(npc.getInterval()).thenReturn(5L);
+    }
+
+    /**
+     * Verifies the NPC keeps moving on its own thread.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the moves.
+     */
+    @Test
+    void keepsMoving() throws InterruptedException {
+        CountDownLatch moves = new CountDownLatch(3);
+        scheduler.schedule(npc, moves::countDown);
+        assertThat(moves.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).hasSize(1);
+    }
+
+    /**
+     * Verifies the loop ends when its task is cancelled.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the thread.
+     */
+    @Test
+    void cancelEndsLoop() throws InterruptedException {
+        LevelScheduler.Task task = scheduler.schedule(npc, () -> { });
+        task.cancel();
+        threads.get(0).join(1000L);
+        assertThat(threads.get(0).isAlive()).isFalse();
+    }
+
+    /**
+     * Verifies a move that throws only ends the loop of its own NPC.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the moves.
+     */
+    @Test
+    void failedMoveStopsOnlyItsNpc() throws InterruptedException {
+        LevelScheduler.Task failing = scheduler.schedule(npc, () -> {
+            throw new IllegalStateException("failed move");
+        });
+        NPC other = mock(NPC.class);
+        when(other.getInterval()).thenReturn(5L);
+        CountDownLatch moves = new CountDownLatch(3);
+        LevelScheduler.Task healthy = scheduler.schedule(other, moves::countDown);
+        threads.get(0).join(1000L);
+        assertThat(threads.get(0).isAlive()).isFalse();
+        assertThat(moves.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads.get(1).isAlive()).isTrue();
+        failing.cancel();
+        healthy.cancel();
+    }
+
+    /**
+     * Verifies the default scheduler works on any runtime.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the move.
+     */
+    @Test
+    void defaultFactory() throws InterruptedException {
+        VirtualThreadScheduler defaultScheduler = new VirtualThreadScheduler();
+        CountDownLatch moves = new CountDownLatch(1);
+        LevelScheduler.Task task = defaultScheduler.schedule(npc, moves::countDown);
+        assertThat(moves.await(1, TimeUnit.SECONDS)).isTrue();
+        task.cancel();
+    }
+}
@@ -0,0 +1,106 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.level.Level;
+import nl.tudelft.jpacman.level.LevelFactory;
+import nl.tudelft.jpacman.level.MapParser;
+import nl.tudelft.jpacman.level.PlayerFactory;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies which engine the ghosts of a level plan their moves with.
+ */
+@SuppressWarnings("magicnumber")
+class GhostTest {
+
+    /**
+     * The level: a corridor with the player on its west end, far away from
+     * one ghost of every kind on its east end.
+     */
+    private Level level;
+
+    /**
+     * An engine that always heads east.
+     */
+    private PathFinder eastward;
+
+    /**
+     * Creates the level and registers the player.
+     */
+    @BeforeEach
+    void setUp() {
+        PacManSprites sprites = mock(PacManSprites.class, RETURNS_MOCKS);
+        MapParser parser = new MapParser(new LevelFactory(sprites, new GhostFactory(sprites)),
+            new BoardFactory(sprites));
+        level = parser.parseMap(Lists.newArrayList("#P              GGGG#"));
+        level.registerPlayer(new PlayerFactory(sprites).createPacMan());
+        eastward = mock(PathFinder.class);
+        when(eastward.shortestPath(any(), any(), any()))
+            .thenReturn(Collections.nCopies(20, Direction.EAST));
+    }
+
+    /**
+     * Verifies Blinky and Clyde chase the player along the shared distances
+     * when they have no engine of their own.
+     */
+    @Test
+    void sharedDistancesByDefault() {
+        assertThat(ghost(Blinky.class).nextMove()).isEqualTo(Direction.WEST);
+        assertThat(ghost(Clyde.class).nextMove()).isEqualTo(Direction.WEST);
+    }
+
+    /**
+     * Verifies a chosen engine takes precedence over the shared distances.
+     */
+    @Test
+    void chosenEngineFirst() {
+        Ghost blinky = ghost(Blinky.class);
+        Ghost clyde = ghost(Clyde.class);
+        blinky.setPathFinder(eastward);
+        clyde.setPathFinder(eastward);
+
+        assertThat(blinky.nextMove()).isEqualTo(Direction.EAST);
+        assertThat(clyde.nextMove()).isEqualTo(Direction.EAST);
+        verify(eastward).shortestPath(any(), any(), any(Blinky.class));
+        verify(eastward).shortestPath(any(), any(), any(Clyde.class));
+    }
+
+    /**
+     * Verifies an engine given to one ghost is not used by the others.
+     */
+    @Test
+    void enginePerGhost() {
+        ghost(Clyde.class).setPathFinder(eastward);
+        assertThat(ghost(Blinky.class).nextMove()).isEqualTo(Direction.WEST);
+        verifyZeroInteractions(eastward);
+    }
+
+    private Ghost ghost(Class<? extends Ghost> type) {
+        Board board = level.getBoard();
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (Unit unit : board.squareAt(x, 0).getOccupants()) {
+                if (type.isInstance(unit)) {
+                    return type.cast(unit);
+                }
+            }
+        }
+        throw new AssertionError("No ghost of type " + type.getSimpleName());
+    }
+}
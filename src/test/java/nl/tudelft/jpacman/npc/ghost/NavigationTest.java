@@ -116,6 +116,38 @@ class NavigationTest {
         assertThat(path).containsExactly(Direction.EAST, Direction.SOUTH);
     }
 
+    /**
+     * Verifies that the shortest path may wrap around the edge of the board.
+     */
+    @Test
+    void testWrapAroundPath() {
+        Board b = parser.parseMap(Lists.newArrayList("  # ")).getBoard();
+        Square s1 = b.squareAt(0, 0);
+        Square s2 = b.squareAt(3, 0);
+        List<Direction> path = Navigation
+            .shortestPath(s1, s2, mock(Unit.class));
+        assertThat(path).containsExactly(Direction.WEST);
+    }
+
+    /**
+     * Verifies that the search finds its way through a winding corridor.
+     */
+    @Test
+    void testWindingPath() {
+        Board b = parser.parseMap(Lists.newArrayList(
+            "#####",
+            "#   #",
+            "### #",
+            "#   #",
+            "#####")).getBoard();
+        Square s1 = b.squareAt(1, 1);
+        Square s2 = b.squareAt(1, 3);
+        List<Direction> path = Navigation
+            .shortestPath(s1, s2, mock(Unit.class));
+        assertThat(path).containsExactly(Direction.EAST, Direction.EAST,
+            Direction.SOUTH, Direction.SOUTH, Direction.WEST, Direction.WEST);
+    }
+
     /**
      * Verifies that the nearest object is detected.
      */
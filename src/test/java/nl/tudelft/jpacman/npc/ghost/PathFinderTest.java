@@ -0,0 +1,163 @@
+package nl.tudelft.jpacman.npc.ghost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.BoardFactory;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.sprite.PacManSprites;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the informed {@link PathFinder}s find paths as short as the
+ * breadth first search does.
+ */
+@SuppressWarnings("magicnumber")
+class PathFinderTest {
+
+    /**
+     * The factory creating the boards to search.
+     */
+    private BoardFactory factory;
+
+    /**
+     * The traveller searching for paths.
+     */
+    private Unit traveller;
+
+    /**
+     * Creates the board factory and traveller.
+     */
+    @BeforeEach
+    void setUp() {
+        factory = new BoardFactory(mock(PacManSprites.class));
+        traveller = mock(Unit.class);
+    }
+
+    /**
+     * Verifies A* finds shortest paths on random boards.
+     */
+    @Test
+    void aStar() {
+        for (long seed = 0; seed < 10; seed++) {
+            verifyAllPairs(PathFinder.A_STAR, randomBoard(seed), traveller);
+        }
+    }
+
+    /**
+     * Verifies jump point search finds shortest paths on random boards.
+     */
+    @Test
+    void jumpPoint() {
+        for (long seed = 0; seed < 10; seed++) {
+            verifyAllPairs(PathFinder.JUMP_POINT, randomBoard(seed), traveller);
+        }
+    }
+
+    /**
+     * Verifies the informed searches ignore terrain without a traveller.
+     */
+    @Test
+    void ignoreTerrain() {
+        Board board = randomBoard(42L);
+        verifyAllPairs(PathFinder.A_STAR, board, null);
+        verifyAllPairs(PathFinder.JUMP_POINT, board, null);
+    }
+
+    /**
+     * Verifies the shortest path across the border of the board wraps
+     * around.
+     */
+    @Test
+    void wrapAround() {
+        Board board = randomBoard(-1L, 12, 1, 0.0);
+        List<Direction> path = PathFinder.JUMP_POINT.shortestPath(
+            board.squareAt(1, 0), board.squareAt(10, 0), traveller);
+        assertThat(path).containsExactly(Direction.WEST, Direction.WEST, Direction.WEST);
+    }
+
+    /**
+     * Verifies searches on many threads at once, on boards of different
+     * sizes, do not mix up the buffers they borrow.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the searches.
+     * @throws ExecutionException
+     *             when a search failed.
+     */
+    @Test
+    void concurrentSearches() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> searches = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                Board board = randomBoard(i, 5 + i % 5, 4 + i % 3, 0.3);
+                PathFinder finder = i % 2 == 0 ? PathFinder.A_STAR : PathFinder.JUMP_POINT;
+                searches.add(executor.submit(() -> verifyAllPairs(finder, board, traveller)));
+            }
+            for (Future<?> search : searches) {
+                search.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void verifyAllPairs(PathFinder finder, Board board, Unit unit) {
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                Square from = board.squareAt(x, y);
+                for (int tx = 0; tx < board.getWidth(); tx++) {
+                    for (int ty = 0; ty < board.getHeight(); ty++) {
+                        Square to = board.squareAt(tx, ty);
+                        List<Direction> expected = Navigation.shortestPath(from, to, unit);
+                        List<Direction> path = finder.shortestPath(from, to, unit);
+                        if (expected == null) {
+                            assertThat(path).isNull();
+                        } else {
+                            assertThat(path).hasSameSizeAs(expected);
+                            assertThat(follow(from, path)).isEqualTo(to);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static Square follow(Square from, List<Direction> path) {
+        Square square = from;
+        for (Direction direction : path) {
+            square = square.getSquareAt(direction);
+        }
+        return square;
+    }
+
+    private Board randomBoard(long seed) {
+        return randomBoard(seed, 9, 7, 0.3);
+    }
+
+    private Board randomBoard(long seed, int width, int height, double walls) {
+        Random random = new Random(seed);
+        Square[][] grid = new Square[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid[x][y] = random.nextDouble() < walls
+                    ? factory.createWall() : factory.createGround();
+            }
+        }
+        return factory.createBoard(grid);
+    }
+}
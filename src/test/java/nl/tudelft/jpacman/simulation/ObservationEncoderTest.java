@@ -0,0 +1,81 @@
+package nl.tudelft.jpacman.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.simulation.ObservationEncoder.Plane;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the encoding of a board into planes.
+ */
+@SuppressWarnings("magicnumber")
+class ObservationEncoderTest {
+
+    /**
+     * The game being encoded.
+     */
+    private Simulator simulator;
+
+    /**
+     * The encoder under test.
+     */
+    private ObservationEncoder encoder;
+
+    /**
+     * Creates a game with a player, two pellets and a ghost.
+     */
+    @BeforeEach
+    void setUp() {
+        simulator = new Simulator(Arrays.asList("#######", "#P.. G#", "#######"));
+        encoder = new ObservationEncoder(simulator.getLevel().getBoard());
+    }
+
+    /**
+     * Verifies the initial encoding of all planes.
+     */
+    @Test
+    void initialState() {
+        assertThat(encoder.getBuffer().isDirect()).isTrue();
+        assertThat(encoder.getBuffer().capacity()).isEqualTo(Plane.values().length * 21);
+        assertThat(plane(Plane.WALL)).isEqualTo(
+            "111" + "101" + "101" + "101" + "101" + "101" + "111");
+        assertThat(plane(Plane.PELLET)).isEqualTo(
+            "000" + "000" + "010" + "010" + "000" + "000" + "000");
+        assertThat(plane(Plane.PLAYER)).isEqualTo(
+            "000" + "010" + "000" + "000" + "000" + "000" + "000");
+        assertThat(plane(Plane.BLINKY)).isEqualTo(
+            "000" + "000" + "000" + "000" + "000" + "010" + "000");
+        assertThat(plane(Plane.CLYDE)).doesNotContain("1");
+    }
+
+    /**
+     * Verifies an update moves the player and removes the eaten pellet.
+     */
+    @Test
+    void update() {
+        simulator.move(Direction.EAST);
+        encoder.update();
+        assertThat(plane(Plane.PLAYER)).isEqualTo(
+            "000" + "000" + "010" + "000" + "000" + "000" + "000");
+        assertThat(plane(Plane.PELLET)).isEqualTo(
+            "000" + "000" + "000" + "010" + "000" + "000" + "000");
+        assertThat(plane(Plane.WALL)).isEqualTo(
+            "111" + "101" + "101" + "101" + "101" + "101" + "111");
+    }
+
+    private String plane(Plane plane) {
+        ByteBuffer buffer = encoder.getBuffer();
+        StringBuilder result = new StringBuilder();
+        int offset = encoder.offsetOf(plane);
+        for (int i = 0; i < encoder.getPlaneSize(); i++) {
+            result.append(buffer.get(offset + i));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package nl.tudelft.jpacman.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import nl.tudelft.jpacman.board.Board;
+import nl.tudelft.jpacman.board.Direction;
+import nl.tudelft.jpacman.board.Square;
+import nl.tudelft.jpacman.board.Unit;
+import nl.tudelft.jpacman.npc.ghost.Ghost;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests games played by the {@link Simulator}.
+ */
+@SuppressWarnings("magicnumber")
+class SimulatorTest {
+
+    /**
+     * Verifies the player wins by eating all pellets.
+     */
+    @Test
+    void won() {
+        Simulator simulator = new Simulator(Arrays.asList("#####", "#P..#", "#####"));
+        assertThat(simulator.isFinished()).isFalse();
+        simulator.move(Direction.EAST);
+        simulator.move(Direction.EAST);
+        assertThat(simulator.isFinished()).isTrue();
+        assertThat(simulator.getPlayer().isAlive()).isTrue();
+        assertThat(simulator.getPlayer().getScore()).isEqualTo(20);
+    }
+
+    /**
+     * Verifies a ghost catches the player in virtual time.
+     */
+    @Test
+    void lost() {
+        Simulator simulator = new Simulator(Arrays.asList("#######", "#P...G#", "#######"));
+        long ticks = simulator.run(10_000L);
+        assertThat(simulator.isFinished()).isTrue();
+        assertThat(simulator.getPlayer().isAlive()).isFalse();
+        assertThat(ticks).isEqualTo(simulator.getTicks());
+        assertThat(simulator.getTime()).isEqualTo(ticks * 10L);
+    }
+
+    /**
+     * Verifies nothing moves unless the simulator is ticked.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting.
+     */
+    @Test
+    void virtualTime() throws InterruptedException {
+        Simulator simulator = new Simulator(Arrays.asList("#######", "#P...G#", "#######"));
+        Square ghostSquare = simulator.getLevel().getBoard().squareAt(5, 1);
+        assertThat(ghostSquare.getOccupants()).isNotEmpty();
+        Thread.sleep(300L);
+        assertThat(ghostSquare.getOccupants()).isNotEmpty();
+        assertThat(simulator.getTicks()).isZero();
+    }
+
+    /**
+     * Verifies two simulations with the same seed play alike, even though
+     * the ghosts, shut off from the player and its pellets, only move at
+     * random.
+     */
+    @Test
+    void seeded() {
+        List<String> map = Arrays.asList(
+            "##########",
+            "#P#.    .#",
+            "###  GG  #",
+            "#. G   G.#",
+            "##########");
+        Simulator first = new Simulator(map, 10L, 42L);
+        Simulator second = new Simulator(map, 10L, 42L);
+        List<String> start = ghosts(first);
+        List<List<String>> firstStates = new ArrayList<>();
+        List<List<String>> secondStates = new ArrayList<>();
+        for (int tick = 0; tick < 500; tick++) {
+            first.tick();
+            second.tick();
+            firstStates.add(ghosts(first));
+            secondStates.add(ghosts(second));
+        }
+        assertThat(firstStates).isEqualTo(secondStates);
+        assertThat(firstStates.stream().anyMatch(state -> !state.equals(start))).isTrue();
+    }
+
+    /**
+     * Lists where the ghosts of a simulation are, column by column.
+     *
+     * @param simulator
+     *            The simulation.
+     * @return For every ghost, its position and direction.
+     */
+    private static List<String> ghosts(Simulator simulator) {
+        Board board = simulator.getLevel().getBoard();
+        List<String> ghosts = new ArrayList<>();
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                for (Unit unit : board.squareAt(x, y).getOccupants()) {
+                    if (unit instanceof Ghost) {
+                        ghosts.add(x + "," + y + " " + unit.getDirection());
+                    }
+                }
+            }
+        }
+        return ghosts;
+    }
+}
@@ -0,0 +1,104 @@
+package nl.tudelft.jpacman.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import nl.tudelft.jpacman.board.Direction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests stepping many games in lockstep.
+ */
+@SuppressWarnings("magicnumber")
+class VectorEnvironmentTest {
+
+    /**
+     * A corridor with two pellets east of the player.
+     */
+    private static final List<String> CORRIDOR = Arrays.asList("#####", "#P..#", "#####");
+
+    /**
+     * The number of games.
+     */
+    private static final int GAMES = 9;
+
+    /**
+     * The pool stepping the games.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The games.
+     */
+    private VectorEnvironment environment;
+
+    /**
+     * Creates the games.
+     */
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(3);
+        environment = new VectorEnvironment(GAMES, () -> new Simulator(CORRIDOR), 1, pool);
+    }
+
+    /**
+     * Shuts down the pool.
+     */
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Verifies the initial observations.
+     */
+    @Test
+    void initialObservations() {
+        assertThat(environment.getObservationSize()).isEqualTo(15);
+        byte[] observations = environment.getObservations();
+        assertThat(observations).hasSize(GAMES * 15);
+        for (int i = 0; i < GAMES; i++) {
+            int offset = i * 15;
+            assertThat(observations[offset]).isEqualTo(VectorEnvironment.WALL);
+            assertThat(observations[offset + 4]).isEqualTo(VectorEnvironment.PLAYER);
+            assertThat(observations[offset + 7]).isEqualTo(VectorEnvironment.PELLET);
+        }
+    }
+
+    /**
+     * Verifies every game is moved by its own action, and that finished games
+     * are replaced.
+     */
+    @Test
+    void step() {
+        Direction[] actions = new Direction[GAMES];
+        for (int i = 0; i < GAMES; i++) {
+            actions[i] = i % 2 == 0 ? Direction.EAST : null;
+        }
+        environment.step(actions);
+
+        for (int i = 0; i < GAMES; i++) {
+            boolean moved = i % 2 == 0;
+            assertThat(environment.getRewards()[i]).isEqualTo(moved ? 10f : 0f);
+            assertThat(environment.getDones()[i]).isFalse();
+            assertThat(environment.getObservations()[i * 15 + 4])
+                .isEqualTo(moved ? VectorEnvironment.GROUND : VectorEnvironment.PLAYER);
+            assertThat(environment.getObservations()[i * 15 + 7])
+                .isEqualTo(moved ? VectorEnvironment.PLAYER : VectorEnvironment.PELLET);
+        }
+
+        Simulator first = environment.getGame(0);
+        environment.step(actions);
+        assertThat(environment.getDones()[0]).isTrue();
+        assertThat(environment.getRewards()[0]).isEqualTo(10f);
+        assertThat(environment.getGame(0)).isNotSameAs(first);
+        assertThat(environment.getObservations()[4]).isEqualTo(VectorEnvironment.PLAYER);
+        assertThat(environment.getDones()[1]).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package nl.tudelft.jpacman.sprite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the frames shown by an animated sprite as its clock advances.
+ */
+@SuppressWarnings("magicnumber")
+class AnimatedSpriteTest {
+
+    /**
+     * The delay between frames.
+     */
+    private static final int DELAY = 100;
+
+    /**
+     * The frames of the animation.
+     */
+    private final Sprite[] frames = {
+        mock(Sprite.class), mock(Sprite.class), mock(Sprite.class)
+    };
+
+    /**
+     * The clock driving the animation.
+     */
+    private AnimationClock clock;
+
+    /**
+     * Creates a clock at a fixed time, and gives every frame a width of its
+     * own.
+     */
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < frames.length; i++) {
+            when(frames[i].getWidth()).thenReturn(i + 1);
+        }
+        clock = new AnimationClock();
+        clock.tick(1_000L);
+    }
+
+    /**
+     * Verifies a looping animation wraps around, also after a long pause.
+     */
+    @Test
+    void looping() {
+        AnimatedSprite sprite = new AnimatedSprite(frames, DELAY, true, true, clock);
+        assertThat(frame(sprite)).isSameAs(frames[0]);
+        clock.tick(1_150L);
+        assertThat(frame(sprite)).isSameAs(frames[1]);
+        clock.tick(1_000L + 999_999L * DELAY + 2 * DELAY);
+        assertThat(frame(sprite)).isSameAs(frames[2]);
+        assertThat(sprite.isAnimating()).isTrue();
+    }
+
+    /**
+     * Verifies a non-looping animation ends after its last frame.
+     */
+    @Test
+    void notLooping() {
+        AnimatedSprite sprite = new AnimatedSprite(frames, DELAY, false, true, clock);
+        clock.tick(1_250L);
+        assertThat(frame(sprite)).isSameAs(frames[2]);
+        assertThat(sprite.isAnimating()).isTrue();
+        clock.tick(1_300L);
+        assertThat(frame(sprite)).isNull();
+        assertThat(sprite.isAnimating()).isFalse();
+    }
+
+    /**
+     * Verifies a stopped animation keeps its frame and continues from it.
+     */
+    @Test
+    void stopAndContinue() {
+        AnimatedSprite sprite = new AnimatedSprite(frames, DELAY, true, true, clock);
+        clock.tick(1_100L);
+        sprite.setAnimating(false);
+        clock.tick(5_000L);
+        assertThat(frame(sprite)).isSameAs(frames[1]);
+        sprite.setAnimating(true);
+        clock.tick(5_100L);
+        assertThat(frame(sprite)).isSameAs(frames[2]);
+    }
+
+    /**
+     * Verifies a restarted animation starts at its first frame.
+     */
+    @Test
+    void restart() {
+        AnimatedSprite sprite = new AnimatedSprite(frames, DELAY, false, true, clock);
+        clock.tick(2_000L);
+        sprite.restart();
+        assertThat(frame(sprite)).isSameAs(frames[0]);
+        assertThat(sprite.isAnimating()).isTrue();
+    }
+
+    /**
+     * @param sprite
+     *            The animated sprite.
+     * @return The frame the sprite shows, or <code>null</code> at the end of
+     *         the loop.
+     */
+    private Sprite frame(AnimatedSprite sprite) {
+        int width = sprite.getWidth();
+        if (width == 0) {
+            return null;
+        }
+        return frames[width - 1];
+    }
+}
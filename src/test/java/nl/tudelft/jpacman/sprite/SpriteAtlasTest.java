@@ -0,0 +1,152 @@
+package nl.tudelft.jpacman.sprite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Verifies the packing of images into an atlas.
+ */
+@SuppressWarnings("magicnumber")
+class SpriteAtlasTest {
+
+    /**
+     * Verifies every image keeps its size and pixels when packed.
+     */
+    @Test
+    void packedImages() {
+        List<BufferedImage> images = Arrays.asList(
+            filled(16, 16, Color.RED),
+            filled(48, 8, Color.GREEN),
+            filled(8, 24, Color.BLUE),
+            filled(16, 16, Color.WHITE));
+        SpriteAtlas atlas = SpriteAtlas.pack(images);
+
+        List<Sprite> sprites = atlas.getSprites();
+        assertThat(sprites).hasSize(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            BufferedImage image = images.get(i);
+            Sprite sprite = sprites.get(i);
+            assertThat(sprite.getWidth()).isEqualTo(image.getWidth());
+            assertThat(sprite.getHeight()).isEqualTo(image.getHeight());
+            BufferedImage drawn = draw(sprite);
+            assertThat(drawn.getRGB(0, 0)).isEqualTo(image.getRGB(0, 0));
+            assertThat(drawn.getRGB(image.getWidth() - 1, image.getHeight() - 1))
+                .isEqualTo(image.getRGB(0, 0));
+        }
+    }
+
+    /**
+     * Verifies the regions of the packed images do not overlap and lie
+     * within the atlas.
+     */
+    @Test
+    void noOverlap() {
+        List<BufferedImage> images = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            images.add(filled(i * 3 % 17 + 1, i * 5 % 13 + 1, Color.WHITE));
+        }
+        SpriteAtlas atlas = SpriteAtlas.pack(images);
+        Rectangle bounds = new Rectangle(atlas.getImage().getWidth(),
+            atlas.getImage().getHeight());
+
+        List<Rectangle> regions = new ArrayList<>();
+        for (Sprite sprite : atlas.getSprites()) {
+            Rectangle rectangle = ((SpriteAtlas.AtlasSprite) sprite).getRegion();
+            assertThat(bounds.contains(rectangle)).isTrue();
+            for (Rectangle other : regions) {
+                assertThat(rectangle.intersects(other)).isFalse();
+            }
+            regions.add(rectangle);
+        }
+    }
+
+    /**
+     * Verifies splitting a packed sprite gives a region of the same atlas.
+     */
+    @Test
+    void split() {
+        BufferedImage image = filled(32, 16, Color.RED);
+        image.setRGB(16, 0, Color.BLUE.getRGB());
+        Sprite sprite = SpriteAtlas.pack(Arrays.asList(image)).getSprites().get(0);
+
+        Sprite frame = sprite.split(16, 0, 16, 16);
+        assertThat(frame).isInstanceOf(SpriteAtlas.AtlasSprite.class);
+        assertThat(frame.getWidth()).isEqualTo(16);
+        assertThat(draw(frame).getRGB(0, 0)).isEqualTo(Color.BLUE.getRGB());
+        assertThat(sprite.split(20, 0, 16, 16)).isInstanceOf(EmptySprite.class);
+    }
+
+    /**
+     * Verifies a packed sprite drawn twice at the same size is scaled once,
+     * and copied from the scaled region both times.
+     */
+    @Test
+    void scaledOnce() {
+        BufferedImage image = filled(16, 16, Color.RED);
+        Sprite sprite = SpriteAtlas.pack(Arrays.asList(filled(8, 8, Color.BLUE), image))
+            .getSprites().get(1);
+        Graphics graphics = mock(Graphics.class);
+        sprite.draw(graphics, 0, 0, 32, 32);
+        sprite.draw(graphics, 32, 0, 32, 32);
+
+        ArgumentCaptor<Image> drawn = ArgumentCaptor.forClass(Image.class);
+        verify(graphics).drawImage(drawn.capture(), eq(0), eq(0), isNull());
+        verify(graphics).drawImage(same(drawn.getValue()), eq(32), eq(0), isNull());
+        verifyNoMoreInteractions(graphics);
+        BufferedImage scaled = (BufferedImage) drawn.getValue();
+        assertThat(scaled.getWidth()).isEqualTo(32);
+        assertThat(scaled.getRGB(31, 31)).isEqualTo(Color.RED.getRGB());
+    }
+
+    /**
+     * Verifies the store returns the packed sprites once the atlas is
+     * loaded.
+     *
+     * @throws IOException
+     *             when the sprite could not be loaded.
+     */
+    @Test
+    void storeLoadsAtlas() throws IOException {
+        SpriteStore store = new SpriteStore();
+        store.preloadAtlas(Arrays.asList("/sprite/64x64white.png"));
+        Sprite sprite = store.loadSprite("/sprite/64x64white.png");
+        assertThat(sprite).isInstanceOf(SpriteAtlas.AtlasSprite.class);
+        assertThat(sprite.getWidth()).isEqualTo(64);
+    }
+
+    private static BufferedImage draw(Sprite sprite) {
+        BufferedImage target = new BufferedImage(sprite.getWidth(), sprite.getHeight(),
+            BufferedImage.TYPE_INT_ARGB);
+        Graphics graphics = target.getGraphics();
+        sprite.draw(graphics, 0, 0, sprite.getWidth(), sprite.getHeight());
+        graphics.dispose();
+        return target;
+    }
+
+    private static BufferedImage filled(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics graphics = image.getGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        return image;
+    }
+}
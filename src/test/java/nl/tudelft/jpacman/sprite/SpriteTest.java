@@ -3,7 +3,10 @@ package nl.tudelft.jpacman.sprite;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,6 +66,34 @@ public class SpriteTest {
             .isInstanceOf(IOException.class);
     }
 
+    /**
+     * Verifies a preloaded sprite is the one returned when it is loaded.
+     *
+     * @throws java.io.IOException
+     *             when the sprite could not be loaded.
+     */
+    @Test
+    public void preloaded() throws IOException {
+        SpriteStore preloading = new SpriteStore();
+        preloading.preload(Arrays.asList("/sprite/64x64white.png"));
+        Sprite loaded = preloading.loadSprite("/sprite/64x64white.png");
+        assertThat(loaded.getWidth()).isEqualTo(SPRITE_SIZE);
+        assertThat(preloading.loadSprite("/sprite/64x64white.png")).isSameAs(loaded);
+    }
+
+    /**
+     * Verifies that an IOException is thrown when a preloaded resource could
+     * not be loaded, every time it is loaded.
+     */
+    @Test
+    public void preloadedResourceMissing() {
+        store.preload(Arrays.asList("/sprite/nonexistingresource.png"));
+        assertThatThrownBy(() -> store.loadSprite("/sprite/nonexistingresource.png"))
+            .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> store.loadSprite("/sprite/nonexistingresource.png"))
+            .isInstanceOf(IOException.class);
+    }
+
     /**
      * Verifies that an animated sprite is correctly cut from its base image.
      */
@@ -109,4 +140,24 @@ public class SpriteTest {
         Sprite split = sprite.split(10, 10, 64, 10);
         assertThat(split).isInstanceOf(EmptySprite.class);
     }
+
+    /**
+     * Verifies a sprite is scaled to the size it is drawn at, also when it
+     * is drawn at another size afterwards.
+     */
+    @Test
+    public void drawScaled() {
+        BufferedImage target = new BufferedImage(SPRITE_SIZE, SPRITE_SIZE,
+            BufferedImage.TYPE_INT_RGB);
+        Graphics graphics = target.getGraphics();
+        sprite.draw(graphics, 0, 0, 32, 32);
+        sprite.draw(graphics, 32, 32, 16, 16);
+        graphics.dispose();
+
+        final int white = 0xFFFFFF;
+        assertThat(target.getRGB(31, 31) & white).isEqualTo(white);
+        assertThat(target.getRGB(40, 40) & white).isEqualTo(white);
+        assertThat(target.getRGB(40, 20) & white).isEqualTo(0);
+        assertThat(target.getRGB(50, 50) & white).isEqualTo(0);
+    }
 }
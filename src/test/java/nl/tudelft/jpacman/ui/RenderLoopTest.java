@@ -0,0 +1,158 @@
+package nl.tudelft.jpacman.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the pacing of the frames of a {@link RenderLoop}, on a clock that
+ * only advances when frames are drawn or waited for.
+ */
+@SuppressWarnings("magicnumber")
+class RenderLoopTest {
+
+    /**
+     * The time between two frames at 100 frames per second.
+     */
+    private static final long FRAME = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The number of frames drawn per test.
+     */
+    private static final int FRAMES = 100;
+
+    /**
+     * The time at which each frame was started.
+     */
+    private final long[] starts = new long[FRAMES];
+
+    /**
+     * The time at which each frame was finished.
+     */
+    private final long[] ends = new long[FRAMES];
+
+    /**
+     * The current time of the clock.
+     */
+    private long now;
+
+    /**
+     * Verifies the frames are started ahead of their deadlines, so that they
+     * are shown on time.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the loop.
+     */
+    @Test
+    void paced() throws InterruptedException {
+        run(frame -> millis(4), frame -> true);
+        for (int frame = 1; frame < FRAMES; frame++) {
+            assertThat(starts[frame] - starts[frame - 1]).isLessThanOrEqualTo(FRAME);
+        }
+        for (int frame = 40; frame < FRAMES; frame++) {
+            assertThat(ends[frame]).isCloseTo(frame * FRAME, within(micros(100)));
+        }
+    }
+
+    /**
+     * Verifies skipped frames do not count towards the time it takes to draw
+     * a frame, so the drawn frames are still shown on time.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the loop.
+     */
+    @Test
+    void skipsUnchanged() throws InterruptedException {
+        run(frame -> frame % 2 == 0 ? millis(4) : 0L, frame -> frame % 2 == 0);
+        for (int frame = 80; frame < FRAMES; frame += 2) {
+            assertThat(ends[frame]).isCloseTo(frame * FRAME, within(micros(100)));
+        }
+    }
+
+    /**
+     * Verifies a frame that overruns its deadline by less than a frame is
+     * caught up with, after which the original schedule is kept.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the loop.
+     */
+    @Test
+    void catchUpShortOverrun() throws InterruptedException {
+        run(frame -> frame == 10 ? millis(15) : millis(1), frame -> true);
+        assertThat(starts[11]).isEqualTo(ends[10]);
+        assertThat(starts[12]).isGreaterThan(ends[11]).isLessThan(12 * FRAME);
+        assertThat(ends[FRAMES - 1]).isCloseTo((FRAMES - 1) * FRAME, within(micros(100)));
+    }
+
+    /**
+     * Verifies the frames missed by a frame that overruns its deadline by
+     * more than a frame are dropped, rather than drawn in a burst: the next
+     * frame is drawn right away and the schedule starts over from there.
+     *
+     * @throws InterruptedException
+     *             when interrupted while waiting for the loop.
+     */
+    @Test
+    void dropAfterLongOverrun() throws InterruptedException {
+        run(frame -> frame == 10 ? millis(45) : millis(1), frame -> true);
+        assertThat(starts[11]).isEqualTo(ends[10]);
+        assertThat(starts[12]).isGreaterThan(ends[11]);
+        assertThat(ends[FRAMES - 1] - ends[10])
+            .isCloseTo((FRAMES - 12) * FRAME, within(micros(100)));
+    }
+
+    /**
+     * Runs a render loop at 100 frames per second until {@link #FRAMES}
+     * frames were drawn or skipped.
+     *
+     * @param cost
+     *            The time it takes to handle each frame.
+     * @param drawn
+     *            Whether each frame is drawn.
+     * @throws InterruptedException
+     *             when interrupted while waiting for the loop.
+     */
+    private void run(IntToLongFunction cost, IntPredicate drawn)
+        throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        RenderLoop[] loop = new RenderLoop[1];
+        int[] frame = new int[1];
+        loop[0] = new RenderLoop(100, () -> {
+            int current = frame[0]++;
+            starts[current] = now;
+            now += cost.applyAsLong(current);
+            ends[current] = now;
+            if (frame[0] == FRAMES) {
+                loop[0].stop();
+                done.countDown();
+            }
+            return drawn.test(current);
+        }, new RenderLoop.Clock() {
+            @Override
+            public long nanoTime() {
+                return now;
+            }
+
+            @Override
+            public void parkNanos(long nanos) {
+                now += nanos;
+            }
+        });
+        loop[0].start();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static long micros(long micros) {
+        return TimeUnit.MICROSECONDS.toNanos(micros);
+    }
+}